@@ -0,0 +1,121 @@
+package org.jsonbuddy.benchmarks;
+
+import org.jsonbuddy.JsonArray;
+import org.jsonbuddy.JsonNode;
+import org.jsonbuddy.JsonObject;
+
+import java.time.Instant;
+import java.util.Random;
+
+/**
+ * The documents used by the benchmarks. Each document is generated from a
+ * fixed seed, so every run measures the same input.
+ */
+public enum Corpus {
+
+    /**
+     * A typical API response of about 300 bytes
+     */
+    SMALL {
+        @Override
+        JsonNode generate(Random random) {
+            return order(random, 0);
+        }
+    },
+
+    /**
+     * A document of about 850KB with objects nested a few levels
+     */
+    LARGE {
+        @Override
+        JsonNode generate(Random random) {
+            JsonArray orders = new JsonArray();
+            for (int i = 0; i < 2000; i++) {
+                orders.add(order(random, i));
+            }
+            return new JsonObject()
+                    .put("generated", Instant.ofEpochSecond(1600000000L).toString())
+                    .put("count", orders.size())
+                    .put("orders", orders);
+        }
+    },
+
+    /**
+     * An array of 50 000 integers and decimals
+     */
+    NUMBERS {
+        @Override
+        JsonNode generate(Random random) {
+            JsonArray numbers = new JsonArray();
+            for (int i = 0; i < 25000; i++) {
+                numbers.add(random.nextInt());
+                numbers.add(random.nextDouble() * 10000);
+            }
+            return numbers;
+        }
+    },
+
+    /**
+     * An array of 10 000 strings with quotes, backslashes, control
+     * characters and non-ASCII text
+     */
+    STRINGS {
+        @Override
+        JsonNode generate(Random random) {
+            String[] fragments = {
+                    "plain text ", "\"quoted\" ", "back\\slash ", "new\nline ", "tab\tbed ",
+                    "blåbærsyltetøy ", "日本語 ", "emoji 😀 ", "control \u0001 "
+            };
+            JsonArray strings = new JsonArray();
+            for (int i = 0; i < 10000; i++) {
+                StringBuilder value = new StringBuilder();
+                for (int j = 0; j < 8; j++) {
+                    value.append(fragments[random.nextInt(fragments.length)]);
+                }
+                strings.add(value.toString());
+            }
+            return strings;
+        }
+    },
+
+    /**
+     * Objects and arrays nested 500 levels deep
+     */
+    DEEP {
+        @Override
+        JsonNode generate(Random random) {
+            JsonNode node = new JsonObject().put("leaf", true);
+            for (int i = 0; i < 500; i++) {
+                node = i % 2 == 0
+                        ? new JsonArray().add(node).add(i)
+                        : new JsonObject().put("level", i).put("child", node);
+            }
+            return node;
+        }
+    };
+
+    abstract JsonNode generate(Random random);
+
+    public JsonNode generate() {
+        return generate(new Random(ordinal() * 31L + 17));
+    }
+
+    static JsonObject order(Random random, int id) {
+        JsonArray lines = new JsonArray();
+        for (int i = 0, count = 1 + random.nextInt(5); i < count; i++) {
+            lines.add(new JsonObject()
+                    .put("productId", "P-" + random.nextInt(100000))
+                    .put("description", "Product number " + random.nextInt(1000))
+                    .put("quantity", 1 + random.nextInt(10))
+                    .put("unitPrice", Math.round(random.nextDouble() * 100000) / 100.0));
+        }
+        return new JsonObject()
+                .put("id", id)
+                .put("customer", "Customer " + random.nextInt(10000))
+                .put("email", "customer" + random.nextInt(10000) + "@example.com")
+                .put("status", OrderStatus.values()[random.nextInt(OrderStatus.values().length)])
+                .put("createdAt", Instant.ofEpochSecond(1600000000L + random.nextInt(10000000)))
+                .put("priority", random.nextBoolean())
+                .put("lines", lines);
+    }
+}
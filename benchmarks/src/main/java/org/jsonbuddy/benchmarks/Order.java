@@ -0,0 +1,17 @@
+package org.jsonbuddy.benchmarks;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The POJO of the objects in {@link Corpus#LARGE}, used by {@link PojoBenchmark}
+ */
+public class Order {
+    public long id;
+    public String customer;
+    public String email;
+    public OrderStatus status;
+    public Instant createdAt;
+    public boolean priority;
+    public List<OrderLine> lines;
+}
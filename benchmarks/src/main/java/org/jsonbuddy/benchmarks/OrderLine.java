@@ -0,0 +1,8 @@
+package org.jsonbuddy.benchmarks;
+
+public class OrderLine {
+    public String productId;
+    public String description;
+    public int quantity;
+    public double unitPrice;
+}
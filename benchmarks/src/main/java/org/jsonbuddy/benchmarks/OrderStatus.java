@@ -0,0 +1,5 @@
+package org.jsonbuddy.benchmarks;
+
+public enum OrderStatus {
+    NEW, PAID, SHIPPED, DELIVERED, CANCELLED
+}
@@ -0,0 +1,59 @@
+package org.jsonbuddy.benchmarks;
+
+import org.jsonbuddy.JsonNode;
+import org.jsonbuddy.parse.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses each {@link Corpus} from a String, a Reader and UTF-8 bytes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+
+    @Param
+    public Corpus corpus;
+
+    private String json;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        json = corpus.generate().toJson();
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public JsonNode parseString() {
+        return JsonParser.parse(json);
+    }
+
+    @Benchmark
+    public JsonNode parseReader() throws IOException {
+        return JsonParser.parseNode(new StringReader(json));
+    }
+
+    @Benchmark
+    public JsonNode parseBytes() {
+        return JsonParser.parse(bytes);
+    }
+}
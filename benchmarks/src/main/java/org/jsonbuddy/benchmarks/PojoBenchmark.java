@@ -0,0 +1,110 @@
+package org.jsonbuddy.benchmarks;
+
+import org.jsonbuddy.JsonArray;
+import org.jsonbuddy.JsonNode;
+import org.jsonbuddy.JsonObject;
+import org.jsonbuddy.pojo.JsonGenerator;
+import org.jsonbuddy.pojo.PojoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps the 2000 orders of {@link Corpus#LARGE} to {@link Order} objects
+ * and generates JSON from them. {@link #parseAndMap()} and {@link #read()}
+ * compare parsing to a JsonNode before mapping with reading directly from the bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PojoBenchmark {
+
+    /**
+     * The shape of the {@link Corpus#LARGE} document
+     */
+    public static class Orders {
+        public List<Order> orders;
+    }
+
+    private byte[] largeBytes;
+    private JsonArray orderNodes;
+    private List<Order> orders;
+    private PojoMapper compiledMapper;
+    private JsonGenerator compiledGenerator;
+
+    @Setup
+    public void setup() {
+        JsonObject large = (JsonObject) Corpus.LARGE.generate();
+        largeBytes = large.toJson().getBytes(StandardCharsets.UTF_8);
+        orderNodes = large.requiredArray("orders");
+        orders = PojoMapper.map(orderNodes, Order.class);
+        compiledMapper = PojoMapper.create().withCompiledAccessors();
+        compiledGenerator = new JsonGenerator().withCompiledAccessors();
+    }
+
+    @Benchmark
+    public List<Order> map() {
+        return PojoMapper.map(orderNodes, Order.class);
+    }
+
+    @Benchmark
+    public List<Order> mapCompiled() {
+        return compiledMapper.mapArrayToPojo(orderNodes, Order.class);
+    }
+
+    @Benchmark
+    public Orders parseAndMap() throws IOException {
+        return PojoMapper.map(JsonObject.read(new ByteArrayInputStream(largeBytes)), Orders.class);
+    }
+
+    @Benchmark
+    public Orders read() {
+        return PojoMapper.read(largeBytes, Orders.class);
+    }
+
+    @Benchmark
+    public JsonNode generate() {
+        return JsonGenerator.generate(orders);
+    }
+
+    @Benchmark
+    public JsonNode generateCompiled() {
+        return compiledGenerator.generateNode(orders);
+    }
+
+    @Benchmark
+    public String generateToJson() {
+        return JsonGenerator.generate(orders).toJson();
+    }
+
+    @Benchmark
+    public byte[] writeToOutputStream() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(largeBytes.length);
+        new JsonGenerator().write(orders, output);
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeSnakeCase() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(largeBytes.length);
+        new JsonGenerator().withNameTransformer(JsonGenerator.UNDERSCORE_TRANSFORMER).write(orders, output);
+        return output.toByteArray();
+    }
+}
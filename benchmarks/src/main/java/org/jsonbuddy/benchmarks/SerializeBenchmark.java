@@ -0,0 +1,54 @@
+package org.jsonbuddy.benchmarks;
+
+import org.jsonbuddy.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes each {@link Corpus} to a String and to UTF-8 bytes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializeBenchmark {
+
+    @Param
+    public Corpus corpus;
+
+    private JsonNode node;
+    private ByteArrayOutputStream output;
+
+    @Setup
+    public void setup() {
+        node = corpus.generate();
+        output = new ByteArrayOutputStream(node.toJson().length() * 2);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return node.toJson();
+    }
+
+    @Benchmark
+    public int toJsonOutputStream() throws IOException {
+        output.reset();
+        node.toJson(output);
+        return output.size();
+    }
+}
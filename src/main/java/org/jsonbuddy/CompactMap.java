@@ -0,0 +1,270 @@
+package org.jsonbuddy;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The insertion ordered map of keys to values of a {@link JsonObject}. The keys
+ * and values are stored in two parallel arrays, which costs far less memory than
+ * a LinkedHashMap with an entry object per key. Small maps are searched linearly.
+ * Once a map has more than {@link #INDEX_THRESHOLD} keys, a hash index of
+ * positions in the arrays is used for lookups (open addressing with linear probing).
+ * <p>
+ * Removing a key shifts the later keys and values one position towards the front,
+ * so removal is linear in the size of the map.
+ */
+class CompactMap extends AbstractMap<String, JsonNode> {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int INDEX_THRESHOLD = 8;
+
+    private String[] keys;
+    private JsonNode[] values;
+    private int size;
+    /**
+     * When not null, each slot holds the position of a key + 1, or 0 for empty.
+     * The length is a power of two at least twice the capacity of the arrays.
+     */
+    private int[] index;
+    private int modCount;
+
+    CompactMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    CompactMap(int capacity) {
+        keys = new String[Math.max(capacity, 1)];
+        values = new JsonNode[keys.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return position(key) >= 0;
+    }
+
+    @Override
+    public JsonNode get(Object key) {
+        int position = position(key);
+        return position >= 0 ? values[position] : null;
+    }
+
+    @Override
+    public JsonNode put(String key, JsonNode value) {
+        int position = position(key);
+        if (position >= 0) {
+            JsonNode previous = values[position];
+            values[position] = value;
+            return previous;
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+            if (index != null) {
+                rebuildIndex();
+            }
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        modCount++;
+        if (index != null) {
+            addToIndex(size - 1);
+        } else if (size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        }
+        return null;
+    }
+
+    @Override
+    public JsonNode remove(Object key) {
+        int position = position(key);
+        if (position < 0) {
+            return null;
+        }
+        JsonNode previous = values[position];
+        removeAt(position);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        index = null;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<String, JsonNode>> entrySet() {
+        return new AbstractSet<Entry<String, JsonNode>>() {
+            @Override
+            public Iterator<Entry<String, JsonNode>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int position(Object key) {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(keys[i], key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int slot = hash(key) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            int position = index[slot] - 1;
+            if (Objects.equals(keys[position], key)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int position) {
+        int moved = size - position - 1;
+        System.arraycopy(keys, position + 1, keys, position, moved);
+        System.arraycopy(values, position + 1, values, position, moved);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+        if (index != null) {
+            rebuildIndex();
+        }
+    }
+
+    private void rebuildIndex() {
+        index = new int[Integer.highestOneBit(keys.length * 2 - 1) * 2];
+        for (int i = 0; i < size; i++) {
+            addToIndex(i);
+        }
+    }
+
+    private void addToIndex(int position) {
+        int mask = index.length - 1;
+        int slot = hash(keys[position]) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, JsonNode>> {
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<String, JsonNode> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new CompactEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private class CompactEntry implements Map.Entry<String, JsonNode> {
+        private final String key;
+        private final int position;
+
+        CompactEntry(int position) {
+            this.key = keys[position];
+            this.position = position;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public JsonNode getValue() {
+            return values[validPosition()];
+        }
+
+        @Override
+        public JsonNode setValue(JsonNode value) {
+            int position = validPosition();
+            JsonNode previous = values[position];
+            values[position] = value;
+            return previous;
+        }
+
+        private int validPosition() {
+            if (position < size && Objects.equals(keys[position], key)) {
+                return position;
+            }
+            int current = position(key);
+            if (current < 0) {
+                throw new IllegalStateException("Entry " + key + " was removed");
+            }
+            return current;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> that = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, that.getKey()) && Objects.equals(getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -3,10 +3,10 @@ package org.jsonbuddy;
 import org.jsonbuddy.parse.JsonHttpException;
 import org.jsonbuddy.parse.JsonParseException;
 import org.jsonbuddy.parse.JsonParser;
+import org.jsonbuddy.stream.JsonWriter;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.io.Reader;
 import java.net.HttpURLConnection;
@@ -82,17 +82,38 @@ public class JsonArray extends JsonNode implements Iterable<JsonNode> {
      * @throws IllegalArgumentException if input not base64encoded
      */
     public static JsonArray parseFromBase64encodedString(String base64encodedJson) throws IllegalArgumentException {
-        return parse(new String(Base64.getUrlDecoder().decode(base64encodedJson)));
+        return asJsonArray(JsonParser.parse(Base64.getUrlDecoder().decode(base64encodedJson)));
     }
 
     /**
-     * Parse the InputStream as a JsonArray
+     * Parse the UTF-8 encoded InputStream as a JsonArray
      *
      * @throws JsonParseException if a JSON syntax error was encountered,
      *             or if the JSON was not a JsonArray
      */
     public static JsonArray read(InputStream inputStream) throws JsonParseException, IOException {
-        return read(new InputStreamReader(inputStream));
+        return asJsonArray(JsonParser.parse(inputStream));
+    }
+
+    /**
+     * Returns the elements of the JSON array in the UTF-8 encoded InputStream as
+     * a lazy Stream, parsing one element at a time. The InputStream is closed
+     * when the Stream is closed.
+     *
+     * @see JsonParser#streamArray(Reader)
+     */
+    public static Stream<JsonNode> streamElements(InputStream inputStream) {
+        return JsonParser.streamArray(inputStream);
+    }
+
+    /**
+     * Returns the elements of the JSON array in the Reader as a lazy Stream,
+     * parsing one element at a time. The Reader is closed when the Stream is closed.
+     *
+     * @see JsonParser#streamArray(Reader)
+     */
+    public static Stream<JsonNode> streamElements(Reader reader) {
+        return JsonParser.streamArray(reader);
     }
 
     /**
@@ -202,7 +223,7 @@ public class JsonArray extends JsonNode implements Iterable<JsonNode> {
      * returns them as longs. Otherwise, it throws NumberFormatException
      */
     public List<Long> longs() {
-        return mapNodes(node -> asNumber(node).longValue());
+        return mapNodes(node -> node instanceof JsonNumber ? ((JsonNumber) node).longValue() : asNumber(node).longValue());
     }
 
     /**
@@ -210,7 +231,7 @@ public class JsonArray extends JsonNode implements Iterable<JsonNode> {
      * returns them as doubles. Otherwise, it throws NumberFormatException
      */
     public List<Double> doubles() {
-        return mapNodes(node -> asNumber(node).doubleValue());
+        return mapNodes(node -> node instanceof JsonNumber ? ((JsonNumber) node).doubleValue() : asNumber(node).doubleValue());
     }
 
     /**
@@ -282,17 +303,12 @@ public class JsonArray extends JsonNode implements Iterable<JsonNode> {
      */
     @Override
     public void toJson(PrintWriter printWriter, String currentIntentation, String indentationAmount) {
-        printWriter.append("[");
-        if (!indentationAmount.isEmpty()) printWriter.append("\n");
-        for (Iterator<JsonNode> iterator = values.iterator(); iterator.hasNext();) {
-            JsonNode node = iterator.next();
-            printWriter.write(currentIntentation + indentationAmount);
-            node.toJson(printWriter, currentIntentation + indentationAmount, indentationAmount);
-
-            if (iterator.hasNext()) printWriter.append(",");
-            if (!indentationAmount.isEmpty()) printWriter.append("\n");
-        }
-        printWriter.append(currentIntentation).append("]");
+        TreeWriter.write(this, printWriter, currentIntentation, indentationAmount);
+    }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+        TreeWriter.write(this, writer);
     }
 
     /**
@@ -359,7 +375,8 @@ public class JsonArray extends JsonNode implements Iterable<JsonNode> {
      * @throws JsonConversionException if the value at the position is not numeric
      */
     public long requiredLong(int pos) throws JsonConversionException {
-        return requiredNumber(pos).longValue();
+        JsonNode node = get(pos);
+        return node instanceof JsonNumber ? ((JsonNumber) node).longValue() : asNumber(node).longValue();
     }
 
     /**
@@ -368,7 +385,8 @@ public class JsonArray extends JsonNode implements Iterable<JsonNode> {
      * @throws JsonConversionException if the value at the position is not numeric
      */
     public double requiredDouble(int pos) throws JsonConversionException {
-        return requiredNumber(pos).doubleValue();
+        JsonNode node = get(pos);
+        return node instanceof JsonNumber ? ((JsonNumber) node).doubleValue() : asNumber(node).doubleValue();
     }
 
     /**
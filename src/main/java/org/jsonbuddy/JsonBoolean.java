@@ -1,15 +1,29 @@
 package org.jsonbuddy;
 
+import org.jsonbuddy.stream.JsonWriter;
+
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.Objects;
 
 public class JsonBoolean extends JsonValue {
+
+    public static final JsonBoolean TRUE = new JsonBoolean(true);
+    public static final JsonBoolean FALSE = new JsonBoolean(false);
+
     private final boolean value;
 
     public JsonBoolean(boolean value) {
         this.value = value;
     }
 
+    /**
+     * Returns the shared {@link #TRUE} or {@link #FALSE}
+     */
+    public static JsonBoolean of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
     @Override
     public String stringValue() {
         return Boolean.toString(value);
@@ -25,6 +39,11 @@ public class JsonBoolean extends JsonValue {
         printWriter.append(stringValue());
     }
 
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+        writer.value(value);
+    }
+
     public boolean booleanValue() {
         return value;
     }
@@ -0,0 +1,88 @@
+package org.jsonbuddy;
+
+import org.jsonbuddy.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * A {@link JsonNumber} of a double value that is stored without boxing
+ */
+final class JsonDouble extends JsonNumber {
+
+    private final double value;
+
+    JsonDouble(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public String stringValue() {
+        return Double.toString(value);
+    }
+
+    @Override
+    public Number javaObjectValue() {
+        return value;
+    }
+
+    @Override
+    public void toJson(PrintWriter printWriter, String currentIntentation, String indentationAmount) {
+        printWriter.print(value);
+    }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public long longValue() {
+        return (long) value;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) value;
+    }
+
+    @Override
+    public byte byteValue() {
+        return (byte) value;
+    }
+
+    @Override
+    public short shortValue() {
+        return (short) value;
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) value;
+    }
+
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
+    /**
+     * Compares like {@link Double#equals}: NaN equals NaN, but 0.0 does not equal -0.0
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof JsonDouble) return Double.doubleToLongBits(value) == Double.doubleToLongBits(((JsonDouble) o).value);
+        if (!(o instanceof JsonNumber)) return false;
+        Number other = ((JsonNumber) o).javaObjectValue();
+        return other instanceof Double && Double.doubleToLongBits(other.doubleValue()) == Double.doubleToLongBits(value);
+    }
+
+    /**
+     * The same as the hashCode of a JsonNumber of a Double
+     */
+    @Override
+    public int hashCode() {
+        return 31 + Double.hashCode(value);
+    }
+}
@@ -21,19 +21,19 @@ public class JsonFactory {
     }
 
     public static JsonNumber jsonNumber(Number number) {
-        return new JsonNumber(number);
+        return JsonNumber.of(number);
     }
 
     public static JsonBoolean jsonTrue() {
-        return new JsonBoolean(true);
+        return JsonBoolean.TRUE;
     }
 
     public static JsonBoolean jsonFalse() {
-        return new JsonBoolean(false);
+        return JsonBoolean.FALSE;
     }
 
     public static JsonBoolean jsonBoolean(boolean value) {
-        return new JsonBoolean(value);
+        return JsonBoolean.of(value);
     }
 
     public static JsonString jsonInstant(Instant instant) {
@@ -52,16 +52,16 @@ public class JsonFactory {
         } else if (o instanceof Boolean) {
             return jsonBoolean((Boolean)o);
         } else if (o instanceof Integer) {
-            return new JsonNumber(((Integer)o).longValue());
+            return JsonNumber.of(((Integer)o).longValue());
         } else if (o instanceof Number) {
-            return new JsonNumber((Number)o);
+            return JsonNumber.of((Number)o);
         } else if (o instanceof List) {
             //noinspection unchecked
             return new JsonArray().addAll((List<String>)o);
         } else if (o instanceof Enum || o instanceof UUID || o instanceof URL) {
             return new JsonString(o.toString());
         } else if (o == null) {
-            return new JsonNull();
+            return JsonNull.INSTANCE;
         } else {
             throw new IllegalArgumentException("Invalid JsonNode class " + o);
         }
@@ -0,0 +1,85 @@
+package org.jsonbuddy;
+
+import org.jsonbuddy.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * A {@link JsonNumber} of a long value that is stored without boxing
+ */
+final class JsonLong extends JsonNumber {
+
+    private final long value;
+
+    JsonLong(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public String stringValue() {
+        return Long.toString(value);
+    }
+
+    @Override
+    public Number javaObjectValue() {
+        return value;
+    }
+
+    @Override
+    public void toJson(PrintWriter printWriter, String currentIntentation, String indentationAmount) {
+        printWriter.print(value);
+    }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public long longValue() {
+        return value;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) value;
+    }
+
+    @Override
+    public byte byteValue() {
+        return (byte) value;
+    }
+
+    @Override
+    public short shortValue() {
+        return (short) value;
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) value;
+    }
+
+    @Override
+    public double doubleValue() {
+        return (double) value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof JsonLong) return value == ((JsonLong) o).value;
+        if (!(o instanceof JsonNumber)) return false;
+        Number other = ((JsonNumber) o).javaObjectValue();
+        return other instanceof Long && other.longValue() == value;
+    }
+
+    /**
+     * The same as the hashCode of a JsonNumber of a Long
+     */
+    @Override
+    public int hashCode() {
+        return 31 + Long.hashCode(value);
+    }
+}
@@ -1,6 +1,7 @@
 package org.jsonbuddy;
 
 import org.jsonbuddy.parse.JsonHttpException;
+import org.jsonbuddy.stream.JsonWriter;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -8,7 +9,6 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.net.HttpURLConnection;
 import java.net.URLConnection;
-import java.nio.charset.StandardCharsets;
 
 /**
  * Common superclass of all JSON elements. A JsonNode can be
@@ -40,7 +40,7 @@ public abstract class JsonNode {
         conn.setDoOutput(true);
         conn.setRequestProperty("Content-Type", "application/json");
         try (OutputStream outputStream = conn.getOutputStream()) {
-            outputStream.write(toJson().getBytes(StandardCharsets.UTF_8));
+            toJson(outputStream);
         }
         JsonHttpException.verifyResponseCode(conn);
     }
@@ -54,6 +54,25 @@ public abstract class JsonNode {
         toJson(printWriter,"","");
     }
 
+    /**
+     * Writes this object as JSON to the given {@link JsonWriter}. The default
+     * implementation writes the output of {@link #toJson()}. The built-in
+     * node types override this to write directly to the JsonWriter.
+     */
+    public void toJson(JsonWriter writer) throws IOException {
+        writer.rawValue(toJson());
+    }
+
+    /**
+     * Writes this object as UTF-8 encoded JSON to the given OutputStream.
+     * The OutputStream is flushed, but not closed.
+     */
+    public void toJson(OutputStream outputStream) throws IOException {
+        JsonWriter writer = new JsonWriter(outputStream);
+        toJson(writer);
+        writer.flush();
+    }
+
     public String stringValue() throws JsonValueNotPresentException {
         throw new JsonValueNotPresentException(String.format("Not supported for class %s",getClass().getSimpleName()));
     }
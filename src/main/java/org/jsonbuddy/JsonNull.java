@@ -1,8 +1,17 @@
 package org.jsonbuddy;
 
+import org.jsonbuddy.stream.JsonWriter;
+
+import java.io.IOException;
 import java.io.PrintWriter;
 
 public class JsonNull extends JsonValue {
+
+    /**
+     * The shared JsonNull. All JsonNulls are equal, so there is no need to create more
+     */
+    public static final JsonNull INSTANCE = new JsonNull();
+
     public JsonNull() {
     }
 
@@ -21,6 +30,11 @@ public class JsonNull extends JsonValue {
         printWriter.append("null");
     }
 
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+        writer.nullValue();
+    }
+
     @Override
     public JsonNull deepClone() {
         return this;
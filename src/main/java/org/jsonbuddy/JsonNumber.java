@@ -1,10 +1,28 @@
 package org.jsonbuddy;
 
+import org.jsonbuddy.stream.JsonWriter;
+
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.Objects;
 
+/**
+ * A JSON number. Numbers that are parsed, and numbers that are created
+ * with {@link #of(long)} or {@link #of(double)}, are stored as primitive
+ * values without a boxed {@link Number}. They are equal to a JsonNumber
+ * of the corresponding {@link Long} or {@link Double}.
+ */
 public class JsonNumber extends JsonValue {
 
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1024;
+    private static final JsonNumber[] CACHE = new JsonNumber[CACHE_HIGH - CACHE_LOW + 1];
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new JsonLong(i + CACHE_LOW);
+        }
+    }
+
     final private Number value;
 
     public JsonNumber(Number value) {
@@ -14,6 +32,44 @@ public class JsonNumber extends JsonValue {
         this.value = value;
     }
 
+    /**
+     * Used by the primitive specializations, which override all methods that use value
+     */
+    JsonNumber() {
+        this.value = null;
+    }
+
+    /**
+     * Returns a JsonNumber that is equal to <code>new JsonNumber(Long.valueOf(value))</code>.
+     * Values from -128 to 1024 are returned from a cache of shared instances.
+     */
+    public static JsonNumber of(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[(int) value - CACHE_LOW];
+        }
+        return new JsonLong(value);
+    }
+
+    /**
+     * Returns a JsonNumber that is equal to <code>new JsonNumber(Double.valueOf(value))</code>
+     */
+    public static JsonNumber of(double value) {
+        return new JsonDouble(value);
+    }
+
+    /**
+     * Returns a JsonNumber of the argument, using a primitive specialization
+     * for {@link Long} and {@link Double}
+     */
+    public static JsonNumber of(Number value) {
+        if (value instanceof Long) {
+            return of(value.longValue());
+        } else if (value instanceof Double) {
+            return new JsonDouble(value.doubleValue());
+        }
+        return new JsonNumber(value);
+    }
+
     @Override
     public String stringValue() {
         return value.toString();
@@ -29,6 +85,11 @@ public class JsonNumber extends JsonValue {
         printWriter.append(stringValue());
     }
 
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+        writer.value(value);
+    }
+
     @Override
     public JsonNode deepClone() {
         return this;
@@ -62,8 +123,7 @@ public class JsonNumber extends JsonValue {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof JsonNumber)) return false;
-        JsonNumber jsonLong = (JsonNumber) o;
-        return Objects.equals(value, jsonLong.value);
+        return Objects.equals(value, ((JsonNumber) o).javaObjectValue());
     }
 
     @Override
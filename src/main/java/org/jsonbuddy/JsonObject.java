@@ -3,10 +3,10 @@ package org.jsonbuddy;
 import org.jsonbuddy.parse.JsonHttpException;
 import org.jsonbuddy.parse.JsonParseException;
 import org.jsonbuddy.parse.JsonParser;
+import org.jsonbuddy.stream.JsonWriter;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.io.Reader;
 import java.net.HttpURLConnection;
@@ -15,16 +15,13 @@ import java.net.URLConnection;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.Base64;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * JsonObject represents a dictionary of values that can be looked up
@@ -57,7 +54,7 @@ public class JsonObject extends JsonNode {
      * Creates an empty JsonObject
      */
     public JsonObject() {
-        this.values = new LinkedHashMap<>();
+        this.values = new CompactMap();
     }
 
     private JsonObject(Map<String,JsonNode> values) {
@@ -91,17 +88,17 @@ public class JsonObject extends JsonNode {
      * @throws IllegalArgumentException if input not base64encoded
      */
     public static JsonObject parseFromBase64encodedString(String base64encodedJson) throws IllegalArgumentException {
-        return parse(new String(Base64.getUrlDecoder().decode(base64encodedJson)));
+        return asJsonObject(JsonParser.parse(Base64.getUrlDecoder().decode(base64encodedJson)));
     }
 
     /**
-     * Parse the InputStream as a JsonObject
+     * Parse the UTF-8 encoded InputStream as a JsonObject
      *
      * @throws JsonParseException if a JSON syntax error was encountered,
      *             or if the JSON was not a JsonObject
      */
     public static JsonObject read(InputStream inputStream) throws JsonParseException, IOException {
-        return read(new InputStreamReader(inputStream));
+        return asJsonObject(JsonParser.parse(inputStream));
     }
 
     /**
@@ -177,6 +174,10 @@ public class JsonObject extends JsonNode {
      * @throws JsonConversionException if the value is not convertible to a number
      */
     public double requiredDouble(String key) throws JsonValueNotPresentException {
+        JsonNode node = values.get(key);
+        if (node instanceof JsonNumber) {
+            return ((JsonNumber) node).doubleValue();
+        }
         return doubleValue(key).orElseThrow(throwKeyNotPresent(key));
     }
 
@@ -197,6 +198,10 @@ public class JsonObject extends JsonNode {
      * @throws JsonConversionException if the value is not convertible to a number
      */
     public long requiredLong(String key) throws JsonValueNotPresentException {
+        JsonNode node = values.get(key);
+        if (node instanceof JsonNumber) {
+            return ((JsonNumber) node).longValue();
+        }
         return longValue(key).orElseThrow(throwKeyNotPresent(key));
     }
 
@@ -384,25 +389,16 @@ public class JsonObject extends JsonNode {
      */
     @Override
     public void toJson(PrintWriter printWriter, String currentIntentation, String indentationAmount) {
-        printWriter.append("{");
-        if (!indentationAmount.isEmpty()) printWriter.append("\n");
-        for (Iterator<Entry<String, JsonNode>> iterator = values.entrySet().iterator(); iterator.hasNext();) {
-            Map.Entry<String,JsonNode> entry = iterator.next();
-            printWriter.append(currentIntentation);
-            printWriter.append(indentationAmount);
-            printWriter.append('"');
-            printWriter.append(entry.getKey());
-            printWriter.append("\":");
-            entry.getValue().toJson(printWriter, currentIntentation + indentationAmount, indentationAmount);
-
-            if (iterator.hasNext()) {
-                printWriter.append(",");
-            }
+        TreeWriter.write(this, printWriter, currentIntentation, indentationAmount);
+    }
 
-            if (!indentationAmount.isEmpty()) printWriter.append("\n");
-        }
-        printWriter.append(currentIntentation);
-        printWriter.append("}");
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+        TreeWriter.write(this, writer);
+    }
+
+    Iterator<Map.Entry<String, JsonNode>> entryIterator() {
+        return values.entrySet().iterator();
     }
 
     /**
@@ -442,10 +438,11 @@ public class JsonObject extends JsonNode {
      */
     @Override
     public JsonObject deepClone() {
-        Map<String, JsonNode> cloned = values.entrySet().stream()
-                .collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().deepClone()));
-        Map<String, JsonNode> newValues = new HashMap<>(cloned);
-        return new JsonObject(newValues);
+        Map<String, JsonNode> cloned = new CompactMap(values.size());
+        for (Entry<String, JsonNode> entry : values.entrySet()) {
+            cloned.put(entry.getKey(), entry.getValue().deepClone());
+        }
+        return new JsonObject(cloned);
     }
 
     /**
@@ -1,5 +1,8 @@
 package org.jsonbuddy;
 
+import org.jsonbuddy.stream.JsonWriter;
+
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.time.Instant;
 import java.util.Objects;
@@ -24,34 +27,19 @@ public class JsonString extends JsonValue {
 
     @Override
     public void toJson(PrintWriter printWriter, String currentIntentation, String indentationAmount) {
-        printWriter.append("\"");
-        StringBuilder val = new StringBuilder(value);
-        replace(val,'\\',"\\");
-        replace(val,'\n',"n");
-        replace(val,'"',"\"");
-        replace(val,'\b',"b");
-        replace(val,'\f',"f");
-        replace(val,'\r',"r");
-        replace(val,'\t',"t");
-        replace(val,'\u000B',"u000B");
-        printWriter.append(val.toString());
-        printWriter.append(("\""));
+        printWriter.write('"');
+        JsonWriter.writeEscaped(printWriter, value);
+        printWriter.write('"');
     }
 
     @Override
-    public JsonString deepClone() {
-        return this;
+    public void toJson(JsonWriter writer) throws IOException {
+        writer.value(value);
     }
 
-    private void replace(StringBuilder val, char c, String rep) {
-        for (int i=0;i<val.length();i++) {
-            if (val.charAt(i) == c) {
-                val.deleteCharAt(i);
-                val.insert(i,rep);
-                val.insert(i,"\\");
-                i++;
-            }
-        }
+    @Override
+    public JsonString deepClone() {
+        return this;
     }
 
     @Override
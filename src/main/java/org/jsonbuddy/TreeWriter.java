@@ -0,0 +1,141 @@
+package org.jsonbuddy;
+
+import org.jsonbuddy.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Writes a tree of {@link JsonObject}s and {@link JsonArray}s with an explicit
+ * stack of iterators rather than with recursion, so deeply nested trees don't
+ * overflow the call stack. All other nodes, including subclasses of JsonObject
+ * and JsonArray that may override toJson, are written by their own toJson.
+ */
+class TreeWriter {
+
+    private Iterator<?>[] iterators = new Iterator<?>[8];
+    private boolean[] objects = new boolean[8];
+    private String[] indentations = new String[8];
+    private String[] childIndentations = new String[8];
+    private int depth;
+
+    static void write(JsonNode root, PrintWriter printWriter, String currentIntentation, String indentationAmount) {
+        new TreeWriter().writeTree(root, printWriter, currentIntentation, indentationAmount);
+    }
+
+    static void write(JsonNode root, JsonWriter writer) throws IOException {
+        new TreeWriter().writeTree(root, writer);
+    }
+
+    private static boolean isContainer(JsonNode node) {
+        return node.getClass() == JsonObject.class || node.getClass() == JsonArray.class;
+    }
+
+    private void push(JsonNode container, String indentation, String indentationAmount) {
+        if (depth == iterators.length) {
+            iterators = Arrays.copyOf(iterators, depth * 2);
+            objects = Arrays.copyOf(objects, depth * 2);
+            indentations = Arrays.copyOf(indentations, depth * 2);
+            childIndentations = Arrays.copyOf(childIndentations, depth * 2);
+        }
+        objects[depth] = container instanceof JsonObject;
+        iterators[depth] = objects[depth]
+                ? ((JsonObject) container).entryIterator()
+                : ((JsonArray) container).iterator();
+        indentations[depth] = indentation;
+        childIndentations[depth] = indentationAmount.isEmpty() ? indentation : indentation + indentationAmount;
+        depth++;
+    }
+
+    private void pop() {
+        depth--;
+        iterators[depth] = null;
+    }
+
+    private void writeTree(JsonNode root, PrintWriter printWriter, String currentIntentation, String indentationAmount) {
+        boolean indent = !indentationAmount.isEmpty();
+        open(root, printWriter, currentIntentation, indentationAmount);
+        while (depth > 0) {
+            Iterator<?> iterator = iterators[depth - 1];
+            if (!iterator.hasNext()) {
+                printWriter.append(indentations[depth - 1]);
+                printWriter.append(objects[depth - 1] ? "}" : "]");
+                pop();
+                if (depth > 0) {
+                    endValue(printWriter, iterators[depth - 1], indent);
+                }
+                continue;
+            }
+            String childIndentation = childIndentations[depth - 1];
+            printWriter.append(childIndentation);
+            JsonNode value;
+            if (objects[depth - 1]) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) iterator.next();
+                printWriter.append('"');
+                JsonWriter.writeEscaped(printWriter, (String) entry.getKey());
+                printWriter.append("\":");
+                value = (JsonNode) entry.getValue();
+            } else {
+                value = (JsonNode) iterator.next();
+            }
+            if (isContainer(value)) {
+                open(value, printWriter, childIndentation, indentationAmount);
+            } else {
+                value.toJson(printWriter, childIndentation, indentationAmount);
+                endValue(printWriter, iterator, indent);
+            }
+        }
+    }
+
+    private void open(JsonNode container, PrintWriter printWriter, String indentation, String indentationAmount) {
+        printWriter.append(container instanceof JsonObject ? "{" : "[");
+        if (!indentationAmount.isEmpty()) printWriter.append("\n");
+        push(container, indentation, indentationAmount);
+    }
+
+    private static void endValue(PrintWriter printWriter, Iterator<?> iterator, boolean indent) {
+        if (iterator.hasNext()) printWriter.append(",");
+        if (indent) printWriter.append("\n");
+    }
+
+    private void writeTree(JsonNode root, JsonWriter writer) throws IOException {
+        open(root, writer);
+        while (depth > 0) {
+            Iterator<?> iterator = iterators[depth - 1];
+            if (!iterator.hasNext()) {
+                if (objects[depth - 1]) {
+                    writer.endObject();
+                } else {
+                    writer.endArray();
+                }
+                pop();
+                continue;
+            }
+            JsonNode value;
+            if (objects[depth - 1]) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) iterator.next();
+                writer.name((String) entry.getKey());
+                value = (JsonNode) entry.getValue();
+            } else {
+                value = (JsonNode) iterator.next();
+            }
+            if (isContainer(value)) {
+                open(value, writer);
+            } else {
+                value.toJson(writer);
+            }
+        }
+    }
+
+    private void open(JsonNode container, JsonWriter writer) throws IOException {
+        if (container instanceof JsonObject) {
+            writer.beginObject();
+        } else {
+            writer.beginArray();
+        }
+        push(container, "", "");
+    }
+}
@@ -0,0 +1,60 @@
+package org.jsonbuddy.parse;
+
+import org.jsonbuddy.JsonNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Parses the elements of a top level JSON array one at a time, as they are
+ * requested by a {@link java.util.stream.Stream}.
+ */
+class ArrayElementSpliterator extends Spliterators.AbstractSpliterator<JsonNode> {
+
+    private final JsonTokenizer tokenizer;
+    private boolean started;
+    private boolean ended;
+
+    ArrayElementSpliterator(JsonTokenizer tokenizer) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.tokenizer = tokenizer;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super JsonNode> action) {
+        if (ended) {
+            return false;
+        }
+        try {
+            if (!started) {
+                started = true;
+                JsonToken token = tokenizer.nextToken();
+                if (token != JsonToken.START_ARRAY) {
+                    ended = true;
+                    throw new JsonParseException("Expected JSON array got " + (token != null ? token : "null"));
+                }
+            }
+            JsonToken token = tokenizer.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                ended = true;
+                return false;
+            }
+            action.accept(JsonParser.parseValue(tokenizer, token));
+            return true;
+        } catch (IOException e) {
+            ended = true;
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void close() {
+        try {
+            tokenizer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
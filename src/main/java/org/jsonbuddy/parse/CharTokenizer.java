@@ -0,0 +1,251 @@
+package org.jsonbuddy.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Tokenizes characters from a Reader or a String. The input is read in
+ * bulk into a reusable char window which is scanned with index arithmetic.
+ */
+class CharTokenizer extends JsonTokenizer {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private char[] buffer;
+    private int position;
+    private int limit;
+    private int tokenStart = -1;
+
+    CharTokenizer(Reader reader) {
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+    }
+
+    CharTokenizer(String input) {
+        this.reader = null;
+        this.buffer = input.toCharArray();
+        this.limit = buffer.length;
+    }
+
+    /**
+     * Reads more input into the buffer. Characters before {@link #tokenStart}
+     * (or before the current position if no token is in progress) are
+     * discarded, the rest are moved to the start of the buffer.
+     *
+     * @return false if there is no more input
+     */
+    private boolean fill() throws IOException {
+        if (reader == null) {
+            return false;
+        }
+        int keep = tokenStart >= 0 ? tokenStart : position;
+        if (keep > 0) {
+            System.arraycopy(buffer, keep, buffer, 0, limit - keep);
+            limit -= keep;
+            position -= keep;
+            if (tokenStart >= 0) {
+                tokenStart = 0;
+            }
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read == -1) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    @Override
+    boolean skipWhitespace() throws IOException {
+        do {
+            while (position < limit) {
+                if (!isWhitespace(buffer[position])) {
+                    return true;
+                }
+                position++;
+            }
+        } while (fill());
+        return false;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return (c <= ' ' || c > 0x7f) && Character.isWhitespace(c);
+    }
+
+    @Override
+    int current() {
+        return buffer[position];
+    }
+
+    @Override
+    char currentChar() {
+        return buffer[position];
+    }
+
+    @Override
+    void advance() {
+        position++;
+    }
+
+    @Override
+    void readNumber() throws IOException {
+        tokenStart = position;
+        startNumber();
+        while ((position < limit || fill()) && scanNumber(buffer[position])) {
+            position++;
+        }
+        int start = tokenStart;
+        tokenStart = -1;
+        if (position < limit && !isNumberTerminator(buffer[position])) {
+            throw new JsonParseException("Illegal value '" + new String(buffer, start, position - start) + buffer[position] + "'");
+        }
+        if (!endNumber(position - start)) {
+            setNumber(new String(buffer, start, position - start));
+        }
+    }
+
+    @Override
+    void expectLiteral(String literal) throws IOException {
+        tokenStart = position;
+        boolean matches = true;
+        int read = 0;
+        while (read < literal.length() && (position < limit || fill())) {
+            matches = matches && buffer[position] == literal.charAt(read);
+            position++;
+            read++;
+        }
+        int start = tokenStart;
+        tokenStart = -1;
+        if (!matches || read < literal.length()) {
+            throw new JsonParseException(String.format("Unexpected value %s", new String(buffer, start, read)));
+        }
+    }
+
+    /**
+     * Strings without escapes that are contained in the current buffer
+     * are created directly from the buffer, or looked up in the string table.
+     */
+    @Override
+    String readString(int maxInternLength) throws IOException {
+        int start = position;
+        while (position < limit) {
+            char c = buffer[position];
+            if (c == '"') {
+                int length = position++ - start;
+                if (length > 0 && length <= maxInternLength) {
+                    return stringTable().get(buffer, start, length);
+                }
+                return new String(buffer, start, length);
+            } else if (c == '\\') {
+                break;
+            }
+            position++;
+        }
+
+        StringBuilder res = new StringBuilder(position - start + 16);
+        res.append(buffer, start, position - start);
+        while (true) {
+            if (position >= limit && !fill()) {
+                throw new JsonParseException("JsonString not closed. Expected \"");
+            }
+            start = position;
+            while (position < limit && buffer[position] != '"' && buffer[position] != '\\') {
+                position++;
+            }
+            res.append(buffer, start, position - start);
+            if (position == limit) {
+                continue;
+            }
+            if (buffer[position++] == '"') {
+                return res.toString();
+            }
+            if (position >= limit && !fill()) {
+                throw new JsonParseException("JsonString not closed. Ended in escape sequence");
+            }
+            char escaped = buffer[position++];
+            if (escaped == 'u') {
+                res.append(readUnicodeValue());
+            } else {
+                appendEscaped(res, escaped);
+            }
+        }
+    }
+
+    @Override
+    void skipString() throws IOException {
+        while (true) {
+            while (position < limit) {
+                char c = buffer[position++];
+                if (c == '"') {
+                    return;
+                } else if (c == '\\') {
+                    if (position >= limit && !fill()) {
+                        throw new JsonParseException("JsonString not closed. Ended in escape sequence");
+                    }
+                    position++;
+                }
+            }
+            if (!fill()) {
+                throw new JsonParseException("JsonString not closed. Expected \"");
+            }
+        }
+    }
+
+    static void appendEscaped(StringBuilder res, int escaped) {
+        switch (escaped) {
+            case '"':
+                res.append('"');
+                break;
+            case '\\':
+                res.append('\\');
+                break;
+            case '/':
+                res.append('/');
+                break;
+            case 'b':
+                res.append('\b');
+                break;
+            case 'f':
+                res.append('\f');
+                break;
+            case 'n':
+                res.append('\n');
+                break;
+            case 'r':
+                res.append('\r');
+                break;
+            case 't':
+                res.append('\t');
+                break;
+        }
+    }
+
+    private char readUnicodeValue() throws IOException {
+        char[] code = new char[4];
+        int unicode = 0;
+        for (int i=0;i<4;i++) {
+            if (position >= limit && !fill()) {
+                throw new JsonParseException("JsonString not closed. Ended in escape sequence");
+            }
+            code[i] = buffer[position++];
+            int digit = Character.digit(code[i], 16);
+            unicode = digit < 0 || unicode < 0 ? -1 : unicode * 16 + digit;
+        }
+        if (unicode < 0) {
+            throw new JsonParseException("Illegal unicode sequence " + new String(code));
+        }
+        return (char) unicode;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+}
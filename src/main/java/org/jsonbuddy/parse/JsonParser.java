@@ -7,17 +7,16 @@ import org.jsonbuddy.JsonNode;
 import org.jsonbuddy.JsonNull;
 import org.jsonbuddy.JsonNumber;
 import org.jsonbuddy.JsonObject;
-import org.jsonbuddy.JsonValue;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
-import java.io.StringReader;
-import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Base64;
-import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Create a JsonNode from an input Reader. Use {@link #parse} to parse any
@@ -34,7 +33,7 @@ public class JsonParser {
      * @throws IOException if there was an error reading the data from the Reader
      */
     public static JsonNode parseNode(Reader reader) throws IOException, JsonParseException {
-        return new JsonParser(reader).parseValue();
+        return new JsonParser(new CharTokenizer(reader)).parseValue();
     }
 
     /**
@@ -45,20 +44,144 @@ public class JsonParser {
      */
     public static JsonNode parse(String input) throws JsonParseException  {
         try {
-            return parseNode(new StringReader(input));
+            return new JsonParser(new CharTokenizer(input)).parseValue();
         } catch (IOException e) {
-            throw new RuntimeException("Should never happen with StringReader", e);
+            throw new RuntimeException("Should never happen without Reader", e);
         }
     }
 
     /**
-     * Parse the InputStream as a JsonNode. Will return a JsonArray, JsonArray
+     * Parse the UTF-8 encoded bytes as a JsonNode. Will return a JsonArray, JsonArray
      * or a JsonValue.
      *
      * @throws JsonParseException if a JSON syntax error was encountered
      */
+    public static JsonNode parse(byte[] input) throws JsonParseException {
+        return parse(input, 0, input.length);
+    }
+
+    /**
+     * Parse <code>length</code> UTF-8 encoded bytes starting at <code>offset</code>
+     * as a JsonNode. Will return a JsonArray, JsonArray or a JsonValue.
+     *
+     * @throws JsonParseException if a JSON syntax error was encountered
+     * @throws IndexOutOfBoundsException if offset and length are outside of the array
+     */
+    public static JsonNode parse(byte[] input, int offset, int length) throws JsonParseException {
+        try {
+            return new JsonParser(new Utf8Tokenizer(input, offset, length)).parseValue();
+        } catch (IOException e) {
+            throw new RuntimeException("Should never happen with byte array", e);
+        }
+    }
+
+    /**
+     * Parse the remaining UTF-8 encoded bytes of the ByteBuffer as a JsonNode. Will
+     * return a JsonArray, JsonArray or a JsonValue. The position of the buffer is
+     * not changed.
+     *
+     * @throws JsonParseException if a JSON syntax error was encountered
+     */
+    public static JsonNode parse(ByteBuffer input) throws JsonParseException {
+        try {
+            return new JsonParser(Utf8Tokenizer.forByteBuffer(input)).parseValue();
+        } catch (IOException e) {
+            throw new RuntimeException("Should never happen with ByteBuffer", e);
+        }
+    }
+
+    /**
+     * Parse the UTF-8 encoded InputStream as a JsonNode. Will return a JsonArray, JsonArray
+     * or a JsonValue.
+     *
+     * @throws JsonParseException if a JSON syntax error was encountered
+     * @throws IOException if there was an error reading the data from the InputStream
+     */
     public static JsonNode parse(InputStream inputStream) throws JsonParseException, IOException {
-        return parseNode(new InputStreamReader(inputStream));
+        return new JsonParser(new Utf8Tokenizer(inputStream)).parseValue();
+    }
+
+    /**
+     * Parse the UTF-8 encoded file as a JsonNode. Will return a JsonArray, JsonArray
+     * or a JsonValue. The file is read through memory mapped windows, which are copied
+     * into a heap buffer of the tokenizer a block at a time, so the whole file is never
+     * held on the heap. This also supports files larger than 2GB.
+     *
+     * @throws JsonParseException if a JSON syntax error was encountered
+     * @throws IOException if the file could not be read
+     */
+    public static JsonNode parse(Path path) throws JsonParseException, IOException {
+        try (JsonTokenizer tokenizer = Utf8Tokenizer.forPath(path)) {
+            return new JsonParser(tokenizer).parseValue();
+        }
+    }
+
+    /**
+     * Parse the input of the tokenizer as a JsonNode. Will return a JsonArray, JsonArray
+     * or a JsonValue. Use this to parse with a tokenizer that is configured with
+     * {@link JsonTokenizer#internValues(int)} or {@link JsonTokenizer#internKeys(int)}.
+     *
+     * @throws JsonParseException if a JSON syntax error was encountered
+     * @throws IOException if there was an error reading the data from the input
+     */
+    public static JsonNode parse(JsonTokenizer tokenizer) throws JsonParseException, IOException {
+        return new JsonParser(tokenizer).parseValue();
+    }
+
+    /**
+     * Returns the elements of the JSON array in the Reader as a lazy Stream. Each
+     * element is parsed when the Stream requests it, so the whole array never has
+     * to be kept in memory. The Reader is closed when the Stream is closed, so
+     * use the Stream in a try-with-resources block.
+     *
+     * @throws JsonParseException (when the Stream is consumed) if a JSON syntax
+     *             error was encountered, or if the JSON was not a JsonArray
+     * @throws java.io.UncheckedIOException (when the Stream is consumed) if there
+     *             was an error reading the data from the Reader
+     */
+    public static Stream<JsonNode> streamArray(Reader reader) {
+        return streamArray(new CharTokenizer(reader));
+    }
+
+    /**
+     * Returns the elements of the JSON array in the UTF-8 encoded InputStream as
+     * a lazy Stream. See {@link #streamArray(Reader)}.
+     */
+    public static Stream<JsonNode> streamArray(InputStream inputStream) {
+        return streamArray(new Utf8Tokenizer(inputStream));
+    }
+
+    /**
+     * Returns the elements of the JSON array in the UTF-8 encoded file as
+     * a lazy Stream. See {@link #streamArray(Reader)}.
+     *
+     * @throws IOException if the file could not be opened
+     */
+    public static Stream<JsonNode> streamArray(Path path) throws IOException {
+        return streamArray(Utf8Tokenizer.forPath(path));
+    }
+
+    /**
+     * Returns the elements of the JSON array read by the tokenizer as
+     * a lazy Stream. See {@link #streamArray(Reader)}.
+     */
+    public static Stream<JsonNode> streamArray(JsonTokenizer tokenizer) {
+        ArrayElementSpliterator spliterator = new ArrayElementSpliterator(tokenizer);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * Reads the value that starts with the argument token from the tokenizer
+     * as a JsonNode. If the token is {@link JsonToken#START_OBJECT} or
+     * {@link JsonToken#START_ARRAY}, the tokenizer is advanced past the
+     * end of the object or array.
+     *
+     * @throws JsonParseException if a JSON syntax error was encountered or
+     *          the token does not start a value
+     * @throws IOException if there was an error reading the data from the input
+     */
+    public static JsonNode parseValue(JsonTokenizer tokenizer, JsonToken token) throws JsonParseException, IOException {
+        return new JsonParser(tokenizer).parseValue(token);
     }
 
     /**
@@ -133,224 +256,92 @@ public class JsonParser {
      * @throws IllegalArgumentException if input not base64encoded
      */
     public static JsonNode parseFromBase64encodedString(String base64encodedJson) throws IllegalArgumentException {
-        return parse(new String(Base64.getUrlDecoder().decode(base64encodedJson)));
+        return parse(Base64.getUrlDecoder().decode(base64encodedJson));
     }
 
-    private Reader reader;
-    private char lastRead;
-    private boolean finished;
-
-    private JsonParser(Reader reader) throws IOException {
-        this.reader = reader;
-        readNext();
-    }
+    private final JsonTokenizer tokenizer;
 
-    private void readNext() throws IOException {
-        int read = reader.read();
-        if (read == -1) {
-            finished = true;
-            return;
-        }
-        this.lastRead = (char) read;
+    private JsonParser(JsonTokenizer tokenizer) {
+        this.tokenizer = tokenizer;
     }
 
     private JsonNode parseValue() throws IOException {
-        while (!finished) {
-            switch (lastRead) {
-                case '{':
-                    return parseObject();
-                case '[':
-                    return parseArray();
-                case '"':
-                    return parseStringValue();
-                case 't':
-                case 'f':
-                    return parseBooleanValue();
-                case 'n':
-                    return parseNullValue();
-            }
-            if (lastRead == '-' || Character.isDigit(lastRead)) {
-                return parseNumberValue();
-            }
-            if (!(Character.isWhitespace(lastRead))) {
-                throw new JsonParseException("Unexpected character '" + lastRead + "'");
-            }
-            readNext();
-        }
-        return null;
-    }
-
-
-    private JsonValue parseNumberValue() throws IOException {
-        StringBuilder val = new StringBuilder();
-        boolean isDouble = false;
-        while (!finished && (Character.isDigit(lastRead) || ".eE-+".contains("" + lastRead))) {
-            isDouble = isDouble || ".eE".contains("" + lastRead);
-            val.append(lastRead);
-            readNext();
-        }
-        if (!finished && (!(Character.isSpaceChar(lastRead) || "}],".contains("" + lastRead))) && (!"\n\r\t".contains("" + lastRead))) {
-            throw new JsonParseException("Illegal value '" + val + lastRead + "'");
-        }
-        if (val.length() > 20) {
-            return new JsonNumber(new BigDecimal(val.toString()));
-        }
-        if (isDouble) {
-            return new JsonNumber(Double.parseDouble(val.toString()));
-        }
-        return new JsonNumber(Long.parseLong(val.toString()));
-    }
-
-
-    private JsonNull parseNullValue() throws IOException {
-        expectValue("null");
-        return new JsonNull();
-    }
-
-    private JsonValue parseBooleanValue() throws IOException {
-        boolean isTrue = (lastRead == 't');
-        String expect = isTrue ? "true" : "false";
-        expectValue(expect);
-        return new JsonBoolean(isTrue);
+        JsonToken token = tokenizer.nextToken();
+        return token != null ? parseValue(token) : null;
     }
 
-    private void expectValue(String value) throws IOException {
-        StringBuilder res = new StringBuilder();
-        for (int i=0;i<value.length() && !finished;i++) {
-            res.append(lastRead);
-            readNext();
-        }
-        if (!res.toString().equals(value)) {
-            throw new JsonParseException(String.format("Unexpected value %s", res));
-        }
-    }
-
-    private JsonArray parseArray() throws IOException {
-        JsonArray jsonArray = new JsonArray();
-        while (lastRead != ']') {
-            do {
-                readNext();
-            } while (Character.isWhitespace(lastRead));
-            if (lastRead == ']') {
-                break;
-            }
-            JsonNode jsonArrayValue = parseValue();
-            jsonArray.add(jsonArrayValue);
-            readSpaceUntil("Expected , or ] in array", ']', ',');
+    /**
+     * Objects and arrays are parsed with an explicit stack of the enclosing
+     * containers rather than with recursion, so the nesting depth is only
+     * limited by {@link JsonTokenizer#maxDepth(int)}.
+     */
+    private JsonNode parseValue(JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            return parseScalar(token);
         }
-        readNext();
-        return jsonArray;
-    }
-
-    private JsonValue parseStringValue() throws IOException {
-        readNext();
-        String value = readText();
-        return JsonFactory.jsonString(value);
-    }
-
-    private JsonObject parseObject() throws IOException {
-        JsonObject jsonObject = new JsonObject();
-        while (lastRead != '}') {
-            readSpaceUntil("JsonObject not closed. Expected }", '}', '"');
-            if (lastRead == '}') {
-                readNext();
-                return jsonObject;
+        JsonNode[] parents = new JsonNode[8];
+        String[] parentKeys = new String[8];
+        int depth = 0;
+        JsonNode container = newContainer(token);
+        while (true) {
+            token = tokenizer.nextToken();
+            if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                if (depth == 0) {
+                    return container;
+                }
+                JsonNode child = container;
+                container = parents[--depth];
+                addChild(container, parentKeys[depth], child);
+                parents[depth] = null;
+                continue;
             }
-            readNext();
-            String key = readText();
-            readSpaceUntil("Expected value for objectkey " + key, ':');
-            readNext();
-            if (finished) {
-                throw new JsonParseException("Expected value for key " + key);
+            String key = null;
+            if (token == JsonToken.FIELD_NAME) {
+                key = tokenizer.text();
+                token = tokenizer.nextToken();
             }
-            JsonNode value = parseValue();
-            jsonObject.put(key, value);
-            readSpaceUntil("JsonObject not closed. Expected }", ',', '}');
-        }
-        readNext();
-        return jsonObject;
-    }
-
-    private String readText() throws IOException {
-        StringBuilder res = new StringBuilder();
-        while (!(finished || lastRead == '"')) {
-            if (lastRead == '\\') {
-                readNext();
-                if (finished) {
-                    throw new JsonParseException("JsonString not closed. Ended in escape sequence");
-                }
-                switch (lastRead) {
-                    case '"':
-                        res.append("\"");
-                        break;
-                    case '\\':
-                        res.append("\\");
-                        break;
-                    case '/':
-                        res.append("/");
-                        break;
-                    case 'b':
-                        res.append("\b");
-                        break;
-                    case 'f':
-                        res.append("\f");
-                        break;
-                    case 'n':
-                        res.append("\n");
-                        break;
-                    case 't':
-                        res.append("\t");
-                        break;
-                    case 'u':
-                        res.append(readUnicodeValue());
-                        break;
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                if (depth == parents.length) {
+                    parents = Arrays.copyOf(parents, depth * 2);
+                    parentKeys = Arrays.copyOf(parentKeys, depth * 2);
                 }
+                parents[depth] = container;
+                parentKeys[depth] = key;
+                depth++;
+                container = newContainer(token);
             } else {
-                res.append(lastRead);
+                addChild(container, key, parseScalar(token));
             }
-            readNext();
         }
-        if (finished) {
-            throw new JsonParseException("JsonString not closed. Expected \"");
-        }
-        return res.toString();
     }
 
-    private String readUnicodeValue() throws IOException {
-        StringBuilder code = new StringBuilder();
-        for (int i=0;i<4;i++) {
-            readNext();
-            if (finished) {
-                throw new JsonParseException("JsonString not closed. Ended in escape sequence");
-            }
-            code.append(lastRead);
-        }
+    private static JsonNode newContainer(JsonToken token) {
+        return token == JsonToken.START_OBJECT ? new JsonObject() : new JsonArray();
+    }
 
-        int unicode;
-        try {
-            unicode = Integer.parseInt(code.toString(), 16);
-        } catch (NumberFormatException e) {
-            throw new JsonParseException("Illegal unicode sequence " + code);
+    private static void addChild(JsonNode container, String key, JsonNode child) {
+        if (container instanceof JsonObject) {
+            ((JsonObject) container).put(key, child);
+        } else {
+            ((JsonArray) container).add(child);
         }
-        return Character.toString((char)unicode);
     }
 
-    private void readSpaceUntil(String errormessage, Character... readUntil) throws IOException {
-        List<Character> until = Arrays.asList(readUntil);
-        if (until.contains(lastRead)) {
-            return;
-        }
-        readNext();
-        while (!(finished || until.contains(lastRead))) {
-            if (!Character.isWhitespace(lastRead)) {
-                throw new JsonParseException(errormessage);
-            }
-            readNext();
-        }
-        if (finished) {
-            throw new JsonParseException(errormessage);
+    private JsonNode parseScalar(JsonToken token) {
+        switch (token) {
+            case STRING:
+                return JsonFactory.jsonString(tokenizer.text());
+            case NUMBER:
+                return tokenizer.numberNode();
+            case TRUE:
+                return JsonBoolean.TRUE;
+            case FALSE:
+                return JsonBoolean.FALSE;
+            case NULL:
+                return JsonNull.INSTANCE;
+            default:
+                throw new JsonParseException("Unexpected " + token);
         }
     }
 
-
 }
@@ -0,0 +1,18 @@
+package org.jsonbuddy.parse;
+
+/**
+ * The syntactical elements of a JSON text, as returned by {@link JsonTokenizer}
+ * and {@link org.jsonbuddy.stream.JsonReader}.
+ */
+public enum JsonToken {
+    START_OBJECT,
+    END_OBJECT,
+    START_ARRAY,
+    END_ARRAY,
+    FIELD_NAME,
+    STRING,
+    NUMBER,
+    TRUE,
+    FALSE,
+    NULL
+}
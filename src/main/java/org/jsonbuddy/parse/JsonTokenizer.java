@@ -0,0 +1,641 @@
+package org.jsonbuddy.parse;
+
+import org.jsonbuddy.JsonNumber;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Splits JSON input into {@link JsonToken}s and verifies that the tokens
+ * make up valid JSON structure. Subclasses scan the actual input
+ * (characters or UTF-8 bytes), while this class keeps track of where in
+ * the structure the tokenizer is.
+ * <p>
+ * This is the tokenizer shared by {@link JsonParser} and
+ * {@link org.jsonbuddy.stream.JsonReader}. Use JsonReader for a more
+ * convenient streaming API.
+ */
+public abstract class JsonTokenizer implements Closeable {
+
+    /**
+     * Tokenizes the characters of the Reader
+     */
+    public static JsonTokenizer of(Reader reader) {
+        return new CharTokenizer(reader);
+    }
+
+    /**
+     * Tokenizes the String
+     */
+    public static JsonTokenizer of(String input) {
+        return new CharTokenizer(input);
+    }
+
+    /**
+     * Tokenizes the UTF-8 encoded InputStream
+     */
+    public static JsonTokenizer of(InputStream input) {
+        return new Utf8Tokenizer(input);
+    }
+
+    /**
+     * Tokenizes <code>length</code> UTF-8 encoded bytes starting at <code>offset</code>
+     */
+    public static JsonTokenizer of(byte[] input, int offset, int length) {
+        return new Utf8Tokenizer(input, offset, length);
+    }
+
+    /**
+     * Tokenizes the remaining UTF-8 encoded bytes of the ByteBuffer
+     */
+    public static JsonTokenizer of(ByteBuffer input) {
+        return Utf8Tokenizer.forByteBuffer(input);
+    }
+
+    /**
+     * Tokenizes the UTF-8 encoded file through memory mapped windows
+     */
+    public static JsonTokenizer of(Path path) throws IOException {
+        return Utf8Tokenizer.forPath(path);
+    }
+
+    private static final int ROOT = 0;
+    private static final int END = 1;
+    private static final int OBJECT_START = 2;
+    private static final int OBJECT_VALUE = 3;
+    private static final int OBJECT_NEXT = 4;
+    private static final int ARRAY_START = 5;
+    private static final int ARRAY_NEXT = 6;
+
+    private static final int IN_OBJECT = 0;
+    private static final int IN_ARRAY = 1;
+
+    /**
+     * The default for {@link #maxDepth(int)}
+     */
+    public static final int DEFAULT_MAX_DEPTH = 1000;
+
+    private int state = ROOT;
+    private int[] containers = new int[16];
+    private int depth;
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+
+    private static final int NUMBER_START = 0;
+    private static final int NUMBER_SIGN = 1;
+    private static final int NUMBER_INTEGER = 2;
+    private static final int NUMBER_POINT = 3;
+    private static final int NUMBER_FRACTION = 4;
+    private static final int NUMBER_EXPONENT_START = 5;
+    private static final int NUMBER_EXPONENT_SIGN = 6;
+    private static final int NUMBER_EXPONENT = 7;
+    private static final int NUMBER_INVALID = 8;
+
+    private static final int LONG_NUMBER = 0;
+    private static final int DOUBLE_NUMBER = 1;
+    private static final int OTHER_NUMBER = 2;
+
+    /** More significant digits than this may not fit in a long */
+    private static final int MAX_MANTISSA_DIGITS = 18;
+    /** Doubles are exact up to 2<sup>53</sup> and powers of ten up to 10<sup>22</sup> */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private String text;
+    private boolean skipStrings;
+    private int maxKeyInternLength = 64;
+    private int maxValueInternLength = 0;
+    private StringTable stringTable;
+
+    private int numberType;
+    private long longNumber;
+    private double doubleNumber;
+    private Number number;
+
+    private int numberPart;
+    private boolean numberNegative;
+    private boolean numberIsDouble;
+    private long mantissa;
+    private int mantissaDigits;
+    private int decimalExponent;
+    private int exponent;
+    private boolean negativeExponent;
+
+    JsonTokenizer() {
+    }
+
+    /**
+     * Returns the next token of the input, or null when the input is
+     * exhausted or the top level value is complete.
+     *
+     * @throws JsonParseException if a JSON syntax error was encountered
+     */
+    public JsonToken nextToken() throws IOException {
+        while (true) {
+            switch (state) {
+                case ROOT:
+                    if (!skipWhitespace()) {
+                        state = END;
+                        return null;
+                    }
+                    return readValue();
+                case END:
+                    return null;
+                case OBJECT_START:
+                    if (!skipWhitespace()) {
+                        throw new JsonParseException("JsonObject not closed. Expected }");
+                    }
+                    int objectStart = current();
+                    advance();
+                    if (objectStart == '}') {
+                        return endContainer(JsonToken.END_OBJECT);
+                    } else if (objectStart != '"') {
+                        throw new JsonParseException("JsonObject not closed. Expected }");
+                    }
+                    text = readOrSkipString(maxKeyInternLength);
+                    state = OBJECT_VALUE;
+                    return JsonToken.FIELD_NAME;
+                case OBJECT_VALUE:
+                    if (!skipWhitespace() || current() != ':') {
+                        throw new JsonParseException("Expected value for objectkey " + text);
+                    }
+                    advance();
+                    if (!skipWhitespace()) {
+                        throw new JsonParseException("Expected value for key " + text);
+                    }
+                    return readValue();
+                case OBJECT_NEXT:
+                    if (!skipWhitespace()) {
+                        throw new JsonParseException("JsonObject not closed. Expected }");
+                    }
+                    int objectNext = current();
+                    advance();
+                    if (objectNext == '}') {
+                        return endContainer(JsonToken.END_OBJECT);
+                    } else if (objectNext != ',') {
+                        throw new JsonParseException("JsonObject not closed. Expected }");
+                    }
+                    state = OBJECT_START;
+                    break;
+                case ARRAY_START:
+                    if (!skipWhitespace()) {
+                        throw new JsonParseException("Expected , or ] in array");
+                    }
+                    if (current() == ']') {
+                        advance();
+                        return endContainer(JsonToken.END_ARRAY);
+                    }
+                    return readValue();
+                case ARRAY_NEXT:
+                    if (!skipWhitespace()) {
+                        throw new JsonParseException("Expected , or ] in array");
+                    }
+                    int arrayNext = current();
+                    advance();
+                    if (arrayNext == ']') {
+                        return endContainer(JsonToken.END_ARRAY);
+                    } else if (arrayNext != ',') {
+                        throw new JsonParseException("Expected , or ] in array");
+                    }
+                    state = ARRAY_START;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown state " + state);
+            }
+        }
+    }
+
+    /**
+     * The field name if the current token is {@link JsonToken#FIELD_NAME}
+     * or the value if the current token is {@link JsonToken#STRING}
+     */
+    public String text() {
+        return text;
+    }
+
+    /**
+     * The value if the current token is {@link JsonToken#NUMBER}. Integers
+     * are returned as Long, decimals as Double and numbers too large for
+     * a long or with more than 20 characters as BigDecimal.
+     */
+    public Number number() {
+        if (number == null) {
+            number = numberType == LONG_NUMBER ? (Number) longNumber : (Number) doubleNumber;
+        }
+        return number;
+    }
+
+    /**
+     * The value as a long if the current token is {@link JsonToken#NUMBER},
+     * without boxing the value.
+     */
+    public long longValue() {
+        switch (numberType) {
+            case LONG_NUMBER:
+                return longNumber;
+            case DOUBLE_NUMBER:
+                return (long) doubleNumber;
+            default:
+                return number.longValue();
+        }
+    }
+
+    /**
+     * The value as a double if the current token is {@link JsonToken#NUMBER},
+     * without boxing the value.
+     */
+    public double doubleValue() {
+        switch (numberType) {
+            case LONG_NUMBER:
+                return longNumber;
+            case DOUBLE_NUMBER:
+                return doubleNumber;
+            default:
+                return number.doubleValue();
+        }
+    }
+
+    /**
+     * The current {@link JsonToken#NUMBER} as a JsonNumber
+     */
+    JsonNumber numberNode() {
+        switch (numberType) {
+            case LONG_NUMBER:
+                return JsonNumber.of(longNumber);
+            case DOUBLE_NUMBER:
+                return JsonNumber.of(doubleNumber);
+            default:
+                return JsonNumber.of(number);
+        }
+    }
+
+    /**
+     * Skips past the end of the current object or array. Must be called
+     * after {@link JsonToken#START_OBJECT} or {@link JsonToken#START_ARRAY}.
+     * Strings inside the skipped value are scanned, but not created.
+     *
+     * @throws JsonParseException if a JSON syntax error was encountered
+     */
+    public void skipChildren() throws IOException {
+        int level = 1;
+        skipStrings = true;
+        try {
+            while (level > 0) {
+                JsonToken token = nextToken();
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    level++;
+                } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                    level--;
+                }
+            }
+        } finally {
+            skipStrings = false;
+        }
+    }
+
+    /**
+     * Checks that nothing but whitespace follows the top level value. Call this
+     * after the value is read to reject input with trailing content.
+     *
+     * @throws JsonParseException if there is more content after the value
+     */
+    public void requireEndOfInput() throws IOException {
+        if (skipWhitespace()) {
+            throw new JsonParseException("Unexpected character '" + currentChar() + "' after value");
+        }
+    }
+
+    /**
+     * Objects and arrays nested deeper than this cause a {@link JsonParseException}
+     * as soon as the offending object or array starts. This protects code that
+     * processes the parsed values recursively against untrusted input. The
+     * default is {@link #DEFAULT_MAX_DEPTH}.
+     */
+    public JsonTokenizer maxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Object keys up to this length are read through a bounded table of
+     * strings, so repeated keys are returned as the same String instance.
+     * The default is 64. Use 0 to create a new String for every key.
+     */
+    public JsonTokenizer internKeys(int maxLength) {
+        this.maxKeyInternLength = maxLength;
+        return this;
+    }
+
+    /**
+     * String values up to this length are read through the same table as
+     * object keys. This is useful for documents with many repeated short values,
+     * such as enum constants or country codes. The default is 0, which creates
+     * a new String for every value.
+     */
+    public JsonTokenizer internValues(int maxLength) {
+        this.maxValueInternLength = maxLength;
+        return this;
+    }
+
+    private String readOrSkipString(int maxInternLength) throws IOException {
+        if (skipStrings) {
+            skipString();
+            return null;
+        }
+        return readString(maxInternLength);
+    }
+
+    /**
+     * The table used for strings up to the length passed to {@link #readString(int)}
+     */
+    final StringTable stringTable() {
+        if (stringTable == null) {
+            stringTable = new StringTable();
+        }
+        return stringTable;
+    }
+
+    private JsonToken readValue() throws IOException {
+        int c = current();
+        switch (c) {
+            case '{':
+                advance();
+                return startContainer(IN_OBJECT, OBJECT_START, JsonToken.START_OBJECT);
+            case '[':
+                advance();
+                return startContainer(IN_ARRAY, ARRAY_START, JsonToken.START_ARRAY);
+            case '"':
+                advance();
+                text = readOrSkipString(maxValueInternLength);
+                return endValue(JsonToken.STRING);
+            case 't':
+                expectLiteral("true");
+                return endValue(JsonToken.TRUE);
+            case 'f':
+                expectLiteral("false");
+                return endValue(JsonToken.FALSE);
+            case 'n':
+                expectLiteral("null");
+                return endValue(JsonToken.NULL);
+        }
+        if (c == '-' || (c >= '0' && c <= '9')) {
+            readNumber();
+            return endValue(JsonToken.NUMBER);
+        }
+        throw new JsonParseException("Unexpected character '" + currentChar() + "'");
+    }
+
+    private JsonToken startContainer(int container, int newState, JsonToken token) {
+        if (depth == maxDepth) {
+            throw new JsonParseException("Maximum nesting depth of " + maxDepth + " exceeded");
+        }
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth * 2);
+        }
+        containers[depth++] = container;
+        state = newState;
+        return token;
+    }
+
+    private JsonToken endContainer(JsonToken token) {
+        depth--;
+        return endValue(token);
+    }
+
+    private JsonToken endValue(JsonToken token) {
+        if (depth == 0) {
+            state = END;
+        } else if (containers[depth-1] == IN_OBJECT) {
+            state = OBJECT_NEXT;
+        } else {
+            state = ARRAY_NEXT;
+        }
+        return token;
+    }
+
+    /**
+     * Converts the text of a number token to the Number type used
+     * to represent it
+     */
+    static Number toNumber(String value, boolean isDouble) {
+        if (value.length() > 20) {
+            return new BigDecimal(value);
+        }
+        if (isDouble) {
+            return Double.parseDouble(value);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return new BigDecimal(value);
+        }
+    }
+
+    /**
+     * Prepares for a number to be passed character by character to {@link #scanNumber}
+     */
+    final void startNumber() {
+        numberPart = NUMBER_START;
+        numberNegative = false;
+        numberIsDouble = false;
+        mantissa = 0;
+        mantissaDigits = 0;
+        decimalExponent = 0;
+        exponent = 0;
+        negativeExponent = false;
+    }
+
+    /**
+     * Accumulates the next character of a number, so that most numbers
+     * can be converted without creating a String.
+     *
+     * @return false if the character is not part of a number
+     */
+    final boolean scanNumber(int c) {
+        if (c >= '0' && c <= '9') {
+            int digit = c - '0';
+            switch (numberPart) {
+                case NUMBER_START:
+                case NUMBER_SIGN:
+                case NUMBER_INTEGER:
+                    numberPart = NUMBER_INTEGER;
+                    addMantissaDigit(digit, false);
+                    break;
+                case NUMBER_POINT:
+                case NUMBER_FRACTION:
+                    numberPart = NUMBER_FRACTION;
+                    addMantissaDigit(digit, true);
+                    break;
+                case NUMBER_EXPONENT_START:
+                case NUMBER_EXPONENT_SIGN:
+                case NUMBER_EXPONENT:
+                    numberPart = NUMBER_EXPONENT;
+                    if (exponent < 100_000) {
+                        exponent = exponent * 10 + digit;
+                    }
+                    break;
+            }
+            return true;
+        }
+        switch (c) {
+            case '-':
+            case '+':
+                if (numberPart == NUMBER_START && c == '-') {
+                    numberNegative = true;
+                    numberPart = NUMBER_SIGN;
+                } else if (numberPart == NUMBER_EXPONENT_START) {
+                    negativeExponent = c == '-';
+                    numberPart = NUMBER_EXPONENT_SIGN;
+                } else {
+                    numberPart = NUMBER_INVALID;
+                }
+                return true;
+            case '.':
+                numberIsDouble = true;
+                numberPart = numberPart == NUMBER_INTEGER ? NUMBER_POINT : NUMBER_INVALID;
+                return true;
+            case 'e':
+            case 'E':
+                numberIsDouble = true;
+                numberPart = numberPart == NUMBER_INTEGER || numberPart == NUMBER_FRACTION
+                        ? NUMBER_EXPONENT_START : NUMBER_INVALID;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void addMantissaDigit(int digit, boolean fraction) {
+        if (mantissaDigits == 0 && digit == 0) {
+            if (fraction) {
+                decimalExponent--;
+            }
+            return;
+        }
+        if (mantissaDigits == MAX_MANTISSA_DIGITS) {
+            numberPart = NUMBER_INVALID;
+            return;
+        }
+        mantissa = mantissa * 10 + digit;
+        mantissaDigits++;
+        if (fraction) {
+            decimalExponent--;
+        }
+    }
+
+    /**
+     * Completes the number passed to {@link #scanNumber}. Integers that fit
+     * in a long are converted exactly. Decimals are converted when the
+     * significant digits and the power of ten are both exactly representable
+     * as doubles, in which case a single multiplication or division is
+     * correctly rounded.
+     *
+     * @param length the number of characters in the number
+     * @return false if the number must be converted from its text with
+     *   {@link #setNumber(String)}
+     */
+    final boolean endNumber(int length) {
+        number = null;
+        if (length > 20) {
+            return false;
+        }
+        if (numberPart != NUMBER_INTEGER && numberPart != NUMBER_FRACTION && numberPart != NUMBER_EXPONENT) {
+            return false;
+        }
+        if (!numberIsDouble) {
+            numberType = LONG_NUMBER;
+            longNumber = numberNegative ? -mantissa : mantissa;
+            return true;
+        }
+        int power = decimalExponent + (negativeExponent ? -exponent : exponent);
+        double value;
+        if (mantissa == 0) {
+            value = 0.0;
+        } else if (mantissa > MAX_EXACT_MANTISSA || power < -22 || power > 22) {
+            return false;
+        } else if (power < 0) {
+            value = mantissa / POWERS_OF_TEN[-power];
+        } else {
+            value = mantissa * POWERS_OF_TEN[power];
+        }
+        numberType = DOUBLE_NUMBER;
+        doubleNumber = numberNegative ? -value : value;
+        return true;
+    }
+
+    /**
+     * Converts the text of a number that {@link #endNumber} could not convert
+     */
+    final void setNumber(String value) {
+        numberType = OTHER_NUMBER;
+        number = toNumber(value, numberIsDouble);
+        if (number instanceof Long) {
+            numberType = LONG_NUMBER;
+            longNumber = number.longValue();
+        } else if (number instanceof Double) {
+            numberType = DOUBLE_NUMBER;
+            doubleNumber = number.doubleValue();
+        }
+    }
+
+    static boolean isNumberTerminator(int c) {
+        return c == ',' || c == '}' || c == ']' || c == '\n' || c == '\r' || c == '\t' || Character.isSpaceChar(c);
+    }
+
+    /**
+     * Skips whitespace and leaves the input at the next significant character.
+     *
+     * @return false if the input ended before any non-whitespace character
+     */
+    abstract boolean skipWhitespace() throws IOException;
+
+    /**
+     * The character at the current position, only valid after
+     * {@link #skipWhitespace()} returned true. Characters outside of
+     * ASCII may be returned as an undecoded value.
+     */
+    abstract int current();
+
+    /**
+     * The decoded character at the current position, used for error messages.
+     */
+    abstract char currentChar() throws IOException;
+
+    /**
+     * Moves past the current character.
+     */
+    abstract void advance();
+
+    /**
+     * Reads a string after the opening quote, up to and including the closing quote.
+     * Strings up to maxInternLength characters (and more than zero) that can be
+     * read directly from the input should be returned from {@link #stringTable()}.
+     */
+    abstract String readString(int maxInternLength) throws IOException;
+
+    /**
+     * Moves past a string after the opening quote, up to and including the closing quote.
+     */
+    abstract void skipString() throws IOException;
+
+    /**
+     * Reads a number starting at the current position, using {@link #startNumber()},
+     * {@link #scanNumber(int)} and {@link #endNumber(int)}
+     */
+    abstract void readNumber() throws IOException;
+
+    /**
+     * Reads the argument literal (<code>true</code>, <code>false</code> or
+     * <code>null</code>) starting at the current position.
+     */
+    abstract void expectLiteral(String literal) throws IOException;
+
+}
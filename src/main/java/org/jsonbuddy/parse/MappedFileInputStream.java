@@ -0,0 +1,66 @@
+package org.jsonbuddy.parse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through memory mapped windows of {@link #WINDOW_SIZE} bytes.
+ * Only one window is mapped at a time, so files larger than the heap (and
+ * larger than the 2GB limit of a single mapping) can be read. The contents
+ * are copied from the mapped window into the caller's buffer by {@link #read(byte[], int, int)},
+ * without going through read system calls.
+ */
+class MappedFileInputStream extends InputStream {
+
+    static final long WINDOW_SIZE = 256 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    MappedFileInputStream(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+    }
+
+    private boolean nextWindow() throws IOException {
+        if (window != null) {
+            windowStart += window.capacity();
+        }
+        if (windowStart >= size) {
+            window = null;
+            return false;
+        }
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(WINDOW_SIZE, size - windowStart));
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if ((window == null || !window.hasRemaining()) && !nextWindow()) {
+            return -1;
+        }
+        return window.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if ((window == null || !window.hasRemaining()) && !nextWindow()) {
+            return -1;
+        }
+        int count = Math.min(len, window.remaining());
+        window.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
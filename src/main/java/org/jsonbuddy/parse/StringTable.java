@@ -0,0 +1,91 @@
+package org.jsonbuddy.parse;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A bounded table of strings read by a tokenizer, used to return the same
+ * String instance each time the same object key (or short value) is read.
+ * A document with many objects of the same shape then retains one copy
+ * of each key, and the hash code of each key is only computed once.
+ * <p>
+ * The table is open addressed with a short probe sequence. When all the
+ * slots in the probe sequence are taken, the first one is replaced, so
+ * the table never grows beyond {@link #SIZE} strings.
+ */
+class StringTable {
+
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+    private static final int MAX_PROBES = 4;
+
+    private final String[] strings = new String[SIZE];
+
+    /**
+     * Returns a String with the characters in the range of the buffer
+     */
+    String get(char[] buffer, int start, int length) {
+        int hash = 0;
+        for (int i = start; i < start + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        int slot = slot(hash);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            String string = strings[(slot + probe) & MASK];
+            if (string == null) {
+                return strings[(slot + probe) & MASK] = new String(buffer, start, length);
+            } else if (string.hashCode() == hash && matches(string, buffer, start, length)) {
+                return string;
+            }
+        }
+        return strings[slot] = new String(buffer, start, length);
+    }
+
+    /**
+     * Returns a String with the bytes in the range of the buffer, which must
+     * all be ASCII characters
+     */
+    String get(byte[] buffer, int start, int length) {
+        int hash = 0;
+        for (int i = start; i < start + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        int slot = slot(hash);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            String string = strings[(slot + probe) & MASK];
+            if (string == null) {
+                return strings[(slot + probe) & MASK] = new String(buffer, start, length, StandardCharsets.ISO_8859_1);
+            } else if (string.hashCode() == hash && matches(string, buffer, start, length)) {
+                return string;
+            }
+        }
+        return strings[slot] = new String(buffer, start, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+
+    private static boolean matches(String string, char[] buffer, int start, int length) {
+        if (string.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (string.charAt(i) != buffer[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String string, byte[] buffer, int start, int length) {
+        if (string.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (string.charAt(i) != buffer[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,349 @@
+package org.jsonbuddy.parse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Tokenizes UTF-8 encoded bytes without decoding them to characters first.
+ * Structural characters, keys and numbers are scanned as bytes. Only strings
+ * that contain non-ASCII content are decoded.
+ */
+class Utf8Tokenizer extends JsonTokenizer {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream input;
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private int tokenStart = -1;
+
+    Utf8Tokenizer(byte[] input, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > input.length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + input.length);
+        }
+        this.input = null;
+        this.buffer = input;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    Utf8Tokenizer(InputStream input) {
+        this(input, BUFFER_SIZE);
+    }
+
+    private Utf8Tokenizer(InputStream input, int bufferSize) {
+        this.input = input;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Reads the file through memory mapped windows, see {@link MappedFileInputStream}
+     */
+    static Utf8Tokenizer forPath(Path path) throws IOException {
+        return new Utf8Tokenizer(new MappedFileInputStream(path), 64 * 1024);
+    }
+
+    static Utf8Tokenizer forByteBuffer(ByteBuffer byteBuffer) {
+        if (byteBuffer.hasArray()) {
+            return new Utf8Tokenizer(byteBuffer.array(),
+                    byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+        }
+        return new Utf8Tokenizer(new ByteBufferInputStream(byteBuffer.duplicate()));
+    }
+
+    /**
+     * Reads more input into the buffer. Bytes before {@link #tokenStart}
+     * (or before the current position if no token is in progress) are
+     * discarded, the rest are moved to the start of the buffer.
+     *
+     * @return false if there is no more input
+     */
+    private boolean fill() throws IOException {
+        if (input == null) {
+            return false;
+        }
+        int keep = tokenStart >= 0 ? tokenStart : position;
+        if (keep > 0) {
+            System.arraycopy(buffer, keep, buffer, 0, limit - keep);
+            limit -= keep;
+            position -= keep;
+            if (tokenStart >= 0) {
+                tokenStart = 0;
+            }
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = input.read(buffer, limit, buffer.length - limit);
+        if (read == -1) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    /**
+     * Makes sure that the current position and the following
+     * <code>count-1</code> bytes are in the buffer.
+     */
+    private boolean ensureAvailable(int count) throws IOException {
+        while (limit - position < count) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    boolean skipWhitespace() throws IOException {
+        do {
+            while (position < limit) {
+                byte b = buffer[position];
+                if (b < 0) {
+                    return !Character.isWhitespace(currentChar()) || skipNonAsciiWhitespace();
+                }
+                if (b > ' ' || !Character.isWhitespace(b)) {
+                    return true;
+                }
+                position++;
+            }
+        } while (fill());
+        return false;
+    }
+
+    private boolean skipNonAsciiWhitespace() throws IOException {
+        position += sequenceLength(buffer[position]);
+        return skipWhitespace();
+    }
+
+    @Override
+    int current() {
+        return buffer[position] & 0xff;
+    }
+
+    @Override
+    char currentChar() throws IOException {
+        int length = sequenceLength(buffer[position]);
+        ensureAvailable(length);
+        return new String(buffer, position, Math.min(length, limit - position), StandardCharsets.UTF_8).charAt(0);
+    }
+
+    @Override
+    void advance() {
+        position++;
+    }
+
+    @Override
+    void readNumber() throws IOException {
+        tokenStart = position;
+        startNumber();
+        while ((position < limit || fill()) && scanNumber(buffer[position])) {
+            position++;
+        }
+        int start = tokenStart;
+        tokenStart = -1;
+        if (position < limit && !isNumberTerminator(buffer[position])) {
+            throw new JsonParseException("Illegal value '" + new String(buffer, start, position - start, StandardCharsets.ISO_8859_1) + currentChar() + "'");
+        }
+        if (!endNumber(position - start)) {
+            setNumber(new String(buffer, start, position - start, StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    @Override
+    void expectLiteral(String literal) throws IOException {
+        tokenStart = position;
+        boolean matches = true;
+        int read = 0;
+        while (read < literal.length() && (position < limit || fill())) {
+            matches = matches && buffer[position] == literal.charAt(read);
+            position++;
+            read++;
+        }
+        int start = tokenStart;
+        tokenStart = -1;
+        if (!matches || read < literal.length()) {
+            throw new JsonParseException(String.format("Unexpected value %s", new String(buffer, start, read, StandardCharsets.UTF_8)));
+        }
+    }
+
+    /**
+     * Strings without escapes that are contained in the current buffer are
+     * created directly from the buffer, ASCII-only strings without decoding.
+     * Short ASCII strings are looked up in the string table.
+     */
+    @Override
+    String readString(int maxInternLength) throws IOException {
+        int start = position;
+        boolean ascii = true;
+        while (position < limit) {
+            byte b = buffer[position];
+            if (b == '"') {
+                int length = position++ - start;
+                if (ascii && length > 0 && length <= maxInternLength) {
+                    return stringTable().get(buffer, start, length);
+                }
+                return new String(buffer, start, length,
+                        ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+            } else if (b == '\\') {
+                break;
+            } else if (b < 0) {
+                ascii = false;
+            }
+            position++;
+        }
+        StringBuilder res = new StringBuilder(position - start + 16);
+        position = start;
+        while (true) {
+            if (position >= limit && !fill()) {
+                throw new JsonParseException("JsonString not closed. Expected \"");
+            }
+            start = position;
+            while (position < limit && buffer[position] >= 0 && buffer[position] != '"' && buffer[position] != '\\') {
+                position++;
+            }
+            for (int i = start; i < position; i++) {
+                res.append((char) buffer[i]);
+            }
+            if (position == limit) {
+                continue;
+            }
+            byte b = buffer[position];
+            if (b < 0) {
+                appendUtf8Sequence(res);
+                continue;
+            }
+            position++;
+            if (b == '"') {
+                return res.toString();
+            }
+            if (position >= limit && !fill()) {
+                throw new JsonParseException("JsonString not closed. Ended in escape sequence");
+            }
+            byte escaped = buffer[position++];
+            if (escaped == 'u') {
+                res.append(readUnicodeValue());
+            } else {
+                CharTokenizer.appendEscaped(res, escaped);
+            }
+        }
+    }
+
+    @Override
+    void skipString() throws IOException {
+        while (true) {
+            while (position < limit) {
+                byte c = buffer[position++];
+                if (c == '"') {
+                    return;
+                } else if (c == '\\') {
+                    if (position >= limit && !fill()) {
+                        throw new JsonParseException("JsonString not closed. Ended in escape sequence");
+                    }
+                    position++;
+                }
+            }
+            if (!fill()) {
+                throw new JsonParseException("JsonString not closed. Expected \"");
+            }
+        }
+    }
+
+    /**
+     * Decodes the multi-byte UTF-8 sequence at the current position. Malformed
+     * sequences are replaced with U+FFFD one byte at a time.
+     */
+    private void appendUtf8Sequence(StringBuilder res) throws IOException {
+        int length = sequenceLength(buffer[position]);
+        if (!ensureAvailable(length)) {
+            throw new JsonParseException("JsonString not closed. Expected \"");
+        }
+        int codePoint = -1;
+        if (length == 2 && isContinuation(1)) {
+            codePoint = ((buffer[position] & 0x1f) << 6) | (buffer[position+1] & 0x3f);
+            codePoint = codePoint >= 0x80 ? codePoint : -1;
+        } else if (length == 3 && isContinuation(1) && isContinuation(2)) {
+            codePoint = ((buffer[position] & 0x0f) << 12) | ((buffer[position+1] & 0x3f) << 6) | (buffer[position+2] & 0x3f);
+            codePoint = codePoint >= 0x800 && !Character.isSurrogate((char) codePoint) ? codePoint : -1;
+        } else if (length == 4 && isContinuation(1) && isContinuation(2) && isContinuation(3)) {
+            codePoint = ((buffer[position] & 0x07) << 18) | ((buffer[position+1] & 0x3f) << 12)
+                    | ((buffer[position+2] & 0x3f) << 6) | (buffer[position+3] & 0x3f);
+            codePoint = codePoint >= 0x10000 && codePoint <= Character.MAX_CODE_POINT ? codePoint : -1;
+        }
+        if (codePoint < 0) {
+            res.append('\uFFFD');
+            position++;
+        } else {
+            res.appendCodePoint(codePoint);
+            position += length;
+        }
+    }
+
+    private boolean isContinuation(int offset) {
+        return (buffer[position + offset] & 0xc0) == 0x80;
+    }
+
+    private static int sequenceLength(byte leadingByte) {
+        if ((leadingByte & 0xe0) == 0xc0) {
+            return 2;
+        } else if ((leadingByte & 0xf0) == 0xe0) {
+            return 3;
+        } else if ((leadingByte & 0xf8) == 0xf0) {
+            return 4;
+        }
+        return 1;
+    }
+
+    private char readUnicodeValue() throws IOException {
+        char[] code = new char[4];
+        int unicode = 0;
+        for (int i=0;i<4;i++) {
+            if (position >= limit && !fill()) {
+                throw new JsonParseException("JsonString not closed. Ended in escape sequence");
+            }
+            code[i] = (char) (buffer[position++] & 0xff);
+            int digit = Character.digit(code[i], 16);
+            unicode = digit < 0 || unicode < 0 ? -1 : unicode * 16 + digit;
+        }
+        if (unicode < 0) {
+            throw new JsonParseException("Illegal unicode sequence " + new String(code));
+        }
+        return (char) unicode;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (input != null) {
+            input.close();
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer byteBuffer;
+
+        ByteBufferInputStream(ByteBuffer byteBuffer) {
+            this.byteBuffer = byteBuffer;
+        }
+
+        @Override
+        public int read() {
+            return byteBuffer.hasRemaining() ? byteBuffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!byteBuffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, byteBuffer.remaining());
+            byteBuffer.get(b, off, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.jsonbuddy.pojo;
+
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * The reflection metadata that {@link PojoMapper} needs to create and populate
+ * objects of a class: the default constructor and the field or setter that each
+ * JSON key is mapped to. Keys are resolved the first time they are encountered,
+ * and the result (including that a key has no field or setter) is remembered.
+ */
+class ClassMapping {
+
+    private static final PropertySetter NO_SETTER = new PropertySetter(Object.class, (instance, value) -> {});
+
+    private final Class<?> clazz;
+    private final Constructor<?> constructor;
+    private final Map<String, PropertySetter> setters = new ConcurrentHashMap<>();
+
+    ClassMapping(Class<?> clazz) {
+        this.clazz = clazz;
+        this.constructor = findConstructor(clazz);
+    }
+
+    private static Constructor<?> findConstructor(Class<?> clazz) {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @throws CanNotMapException if the class has no default constructor
+     */
+    Constructor<?> getConstructor() {
+        if (constructor == null) {
+            throw new CanNotMapException(String.format("Class %s has no default constructor", clazz.getName()));
+        }
+        return constructor;
+    }
+
+    /**
+     * Returns the setter for the JSON key, using the resolver the first time the
+     * key is encountered.
+     *
+     * @return the setter, or null if the key has no corresponding field or setter
+     */
+    PropertySetter getSetter(String key, BiFunction<Class<?>, String, PropertySetter> resolver) {
+        PropertySetter setter = setters.get(key);
+        if (setter == null) {
+            setter = resolver.apply(clazz, key);
+            setters.putIfAbsent(key, setter != null ? setter : NO_SETTER);
+        }
+        return setter == NO_SETTER ? null : setter;
+    }
+}
@@ -1,28 +1,65 @@
 package org.jsonbuddy.pojo;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.DynamicType;
-import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.matcher.ElementMatchers;
 import org.jsonbuddy.JsonNode;
 import org.jsonbuddy.JsonNull;
 import org.jsonbuddy.JsonObject;
 
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
  * A mapping rule that can be used to provide a mapping from json to an interface. Bytebuddy (bytebuddy.net) is used to create a runtime instance of the interface.
  * <strong>Important:</strong> Using this class requires you to add the optional dependency byte-buddy to your class path.
+ * <p>
+ * One implementation class is generated for each interface the first time it is mapped. The class
+ * stores the value of each getter in a field which is set by the constructor, so mapping an object
+ * only costs a constructor call. Default getters of the interface return the value
+ * from the JSON if it has their key, and otherwise run their own implementation. A separate
+ * class is generated for each combination of default getters that are present.
  */
 public class DynamicInterfaceMapper implements PojoMappingRule {
+
+    /**
+     * The proxies for each set of default getters that have a value in the JSON
+     */
+    private static final ClassValue<Map<BitSet, ProxyClass>> KEYED_GETTER_PROXIES = new ClassValue<Map<BitSet, ProxyClass>>() {
+        @Override
+        protected Map<BitSet, ProxyClass> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<ProxyClass> ALL_GETTER_PROXIES = new ClassValue<ProxyClass>() {
+        @Override
+        protected ProxyClass computeValue(Class<?> type) {
+            return new ProxyClass(type, true, null);
+        }
+    };
+
+    private static final ClassValue<List<Getter>> KEYED_GETTERS = new ClassValue<List<Getter>>() {
+        @Override
+        protected List<Getter> computeValue(Class<?> type) {
+            return findKeyedGetters(type);
+        }
+    };
+
     private final boolean mapAllGetters;
 
     private DynamicInterfaceMapper(boolean mapAllGetters) {
@@ -45,70 +82,139 @@ public class DynamicInterfaceMapper implements PojoMappingRule {
     @Override
     public <T> T mapClass(JsonNode jsonnode, Class<T> clazz, MapitFunction mapitfunc)  throws CanNotMapException {
         JsonObject jsonObject = (JsonObject) jsonnode;
-        DynamicType.Builder<T> builder = new ByteBuddy()
-                .subclass(clazz);
-
-
-        Map<String,Method> methodsToMap = new HashMap<>();
+        ProxyClass proxyClass;
         if (mapAllGetters) {
-            for (Method method : clazz.getDeclaredMethods()) {
-                if (JsonGenerator.isGetMethod(method)) {
-                    String methodName = method.getName();
-                    String key = "" + Character.toLowerCase(methodName.charAt(3));
-                    if (methodName.length() > 4) {
-                        key = key + methodName.substring(4);
-                    }
-                    methodsToMap.put(key, method);
-                }
-            }
+            proxyClass = ALL_GETTER_PROXIES.get(clazz);
         } else {
-            for (String key : jsonObject.keys()) {
-                String getterName = "get" + Character.toUpperCase(key.charAt(0)) + key.substring(1);
-                Optional<Method> getter = Arrays.stream(clazz.getMethods())
-                        .filter(met -> getterName.equals(met.getName()) && met.getParameterCount() == 0)
-                        .findAny();
-                if (!getter.isPresent()) {
-                    continue;
+            List<Getter> getters = KEYED_GETTERS.get(clazz);
+            BitSet presentDefaults = new BitSet();
+            for (int i = 0; i < getters.size(); i++) {
+                Getter getter = getters.get(i);
+                if (getter.method.isDefault() && (jsonObject.containsKey(getter.key)
+                        || (getter.alternativeKey != null && jsonObject.containsKey(getter.alternativeKey)))) {
+                    presentDefaults.set(i);
                 }
-
-                Method getterMethod = getter.get();
-                methodsToMap.put(key,getterMethod);
             }
+            proxyClass = KEYED_GETTER_PROXIES.get(clazz)
+                    .computeIfAbsent(presentDefaults, defaults -> new ProxyClass(clazz, false, defaults));
         }
-        Set<Map.Entry<String, Method>> entries = methodsToMap.entrySet();
-        for (Map.Entry<String, Method> methodEntry : entries) {
-            String key = methodEntry.getKey();
-            Method getterMethod = methodEntry.getValue();
 
-            Object value;
-            Optional<JsonNode> jsonValOpt = jsonObject.value(key);
+        Object[] values = new Object[proxyClass.getters.size()];
+        for (int i = 0; i < values.length; i++) {
+            Getter getter = proxyClass.getters.get(i);
+            Optional<JsonNode> jsonValOpt = jsonObject.value(getter.key);
+            if (!jsonValOpt.isPresent() && getter.alternativeKey != null) {
+                jsonValOpt = jsonObject.value(getter.alternativeKey);
+            }
+            Class<?> type = getter.method.getReturnType();
             if (jsonValOpt.isPresent() && (!(jsonValOpt.get() instanceof JsonNull))) {
-                value = mapitfunc.mapit(jsonValOpt.get(), getterMethod.getReturnType());
-            } else {
-                value = null;
+                values[i] = mapitfunc.mapit(jsonValOpt.get(), type);
+            } else if (type.isPrimitive()) {
+                values[i] = Array.get(Array.newInstance(type, 1), 0);
             }
-            Implementation bbvalue = value != null ? FixedValue.value(value) : FixedValue.nullValue();
+        }
+        return clazz.cast(proxyClass.newInstance(values));
+    }
 
+    private static class Getter {
+        private final Method method;
+        private final String key;
+        private final String alternativeKey;
 
-            builder = builder.method(ElementMatchers.anyOf(getterMethod))
-                    .intercept(bbvalue);
+        Getter(Method method, String key, String alternativeKey) {
+            this.method = method;
+            this.key = key;
+            this.alternativeKey = alternativeKey;
         }
+    }
 
+    /**
+     * A generated implementation of an interface with a field for each getter and a
+     * constructor that takes the values of the fields in the order of {@link #getters}
+     */
+    private static class ProxyClass {
+        private final List<Getter> getters = new ArrayList<>();
+        private final Constructor<?> constructor;
+
+        /**
+         * @param overriddenDefaults the indexes of the default methods in {@link #getters} that are
+         *                           overridden. Other default methods keep their implementation.
+         *                           Not used when all getters are mapped.
+         */
+        ProxyClass(Class<?> clazz, boolean mapAllGetters, BitSet overriddenDefaults) {
+            if (mapAllGetters) {
+                for (Method method : clazz.getDeclaredMethods()) {
+                    if (JsonGenerator.isGetMethod(method) && method.getReturnType() != void.class
+                            && !Modifier.isStatic(method.getModifiers())) {
+                        getters.add(new Getter(method, decapitalize(method.getName().substring(3)), null));
+                    }
+                }
+            } else {
+                getters.addAll(KEYED_GETTERS.get(clazz));
+            }
 
-        Class<? extends T> loaded = builder
-                .make()
-                .load(clazz.getClassLoader())
-                .getLoaded();
+            DynamicType.Builder<?> builder = new ByteBuddy().subclass(clazz);
+            Class<?>[] parameterTypes = new Class<?>[getters.size()];
+            Implementation.Composable constructorBody;
+            try {
+                constructorBody = MethodCall.invoke(Object.class.getConstructor());
+            } catch (NoSuchMethodException e) {
+                throw new RuntimeException(e);
+            }
+            for (int i = 0; i < getters.size(); i++) {
+                Method method = getters.get(i).method;
+                String fieldName = "value" + i;
+                parameterTypes[i] = method.getReturnType();
+                builder = builder.defineField(fieldName, method.getReturnType(), Visibility.PRIVATE);
+                if (mapAllGetters || !method.isDefault() || overriddenDefaults.get(i)) {
+                    builder = builder.method(ElementMatchers.is(method))
+                            .intercept(FieldAccessor.ofField(fieldName));
+                }
+                constructorBody = constructorBody.andThen(FieldAccessor.ofField(fieldName).setsArgumentAt(i));
+            }
+            Class<?> loaded = builder
+                    .defineConstructor(Visibility.PUBLIC)
+                    .withParameters(parameterTypes)
+                    .intercept(constructorBody)
+                    .make()
+                    .load(clazz.getClassLoader())
+                    .getLoaded();
+            try {
+                constructor = loaded.getConstructor(parameterTypes);
+            } catch (NoSuchMethodException e) {
+                throw new RuntimeException(e);
+            }
+        }
 
-        return createInstance(loaded);
+        Object newInstance(Object[] values) {
+            try {
+                return constructor.newInstance(values);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new RuntimeException(e);
+            }
+        }
     }
 
-    private static <T> T createInstance(Class<? extends T> loaded) {
-        try {
-            return loaded.getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            throw new RuntimeException(e);
+    /**
+     * The getters of the interface, each with the key of its JSON value
+     */
+    private static List<Getter> findKeyedGetters(Class<?> clazz) {
+        List<Getter> getters = new ArrayList<>();
+        for (Method method : clazz.getMethods()) {
+            String methodName = method.getName();
+            if (methodName.startsWith("get") && methodName.length() > 3
+                    && method.getParameterCount() == 0 && method.getReturnType() != void.class
+                    && !Modifier.isStatic(method.getModifiers())) {
+                String key = decapitalize(methodName.substring(3));
+                String alternativeKey = methodName.substring(3);
+                getters.add(new Getter(method, key, key.equals(alternativeKey) ? null : alternativeKey));
+            }
         }
+        return getters;
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
     }
 
 }
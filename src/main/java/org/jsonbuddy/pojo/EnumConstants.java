@@ -0,0 +1,81 @@
+package org.jsonbuddy.pojo;
+
+import org.jsonbuddy.JsonString;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The constants of an enum class looked up by name or by String representation,
+ * and their String representations as JsonStrings. Computed once per enum class
+ * and shared by {@link PojoMapper}, {@link EnumMapper} and {@link JsonGenerator}.
+ */
+class EnumConstants {
+
+    private static final ClassValue<EnumConstants> ENUM_CONSTANTS = new ClassValue<EnumConstants>() {
+        @Override
+        protected EnumConstants computeValue(Class<?> type) {
+            return new EnumConstants(type);
+        }
+    };
+
+    static EnumConstants of(Class<?> enumClass) {
+        return ENUM_CONSTANTS.get(enumClass);
+    }
+
+    private final Class<?> enumClass;
+    private final Enum<?>[] constants;
+    private final Map<String, Enum<?>> byString = new HashMap<>();
+    private final Map<String, Enum<?>> byName = new HashMap<>();
+    private final Map<String, Enum<?>> byUpperCaseName = new HashMap<>();
+    private final JsonString[] jsonStrings;
+
+    private EnumConstants(Class<?> enumClass) {
+        this.enumClass = enumClass;
+        this.constants = (Enum<?>[]) enumClass.getEnumConstants();
+        this.jsonStrings = new JsonString[constants.length];
+        for (Enum<?> constant : constants) {
+            byString.putIfAbsent(constant.toString(), constant);
+            byName.put(constant.name(), constant);
+            byUpperCaseName.putIfAbsent(constant.name().toUpperCase(Locale.ROOT), constant);
+            jsonStrings[constant.ordinal()] = new JsonString(constant.toString());
+        }
+    }
+
+    /**
+     * The first constant with the argument {@link Enum#toString()}, or null
+     */
+    Enum<?> fromString(String value) {
+        return byString.get(value);
+    }
+
+    /**
+     * The constant with the argument name, like {@link Enum#valueOf}
+     *
+     * @throws IllegalArgumentException if there is no such constant
+     */
+    Enum<?> valueOf(String name, boolean ignoreCase) {
+        Enum<?> constant = byName.get(name);
+        if (constant == null && ignoreCase) {
+            constant = byUpperCaseName.get(name.toUpperCase(Locale.ROOT));
+        }
+        if (constant == null) {
+            throw new IllegalArgumentException("No enum constant " + enumClass.getCanonicalName() + "." + name);
+        }
+        return constant;
+    }
+
+    /**
+     * The {@link Enum#toString()} of the constant as a JsonString
+     */
+    JsonString toJson(Enum<?> constant) {
+        return jsonStrings[constant.ordinal()];
+    }
+
+    List<Enum<?>> constants() {
+        return Arrays.asList(constants);
+    }
+}
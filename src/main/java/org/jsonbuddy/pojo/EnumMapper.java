@@ -4,9 +4,25 @@ import org.jsonbuddy.JsonNode;
 import org.jsonbuddy.JsonString;
 
 /**
- * Used to Pojo Map enums. Enum.valueOf is used to map String to Enum instance
+ * Used to Pojo Map enums. Strings are mapped to the enum constant with the same name,
+ * like Enum.valueOf, optionally ignoring case.
  */
 public class EnumMapper implements PojoMappingRule {
+
+    private final boolean ignoreCase;
+
+    public EnumMapper() {
+        this(false);
+    }
+
+    /**
+     * @param ignoreCase if true, strings that only differ from the name of a
+     *                   constant in case are also mapped to that constant
+     */
+    public EnumMapper(boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+    }
+
     @Override
     public boolean isApplicableToClass(Class<?> clazz, JsonNode jsonNode) {
         return clazz.isEnum() && (jsonNode instanceof JsonString);
@@ -15,8 +31,6 @@ public class EnumMapper implements PojoMappingRule {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T mapClass(JsonNode jsonNode, Class<T> clazz, MapitFunction mapitfunc) throws CanNotMapException {
-        String value = jsonNode.stringValue();
-        @SuppressWarnings("unchecked") Enum anEnum = Enum.valueOf((Class<Enum>) clazz, value);
-        return (T) anEnum;
+        return (T) EnumConstants.of(clazz).valueOf(jsonNode.stringValue(), ignoreCase);
     }
 }
@@ -8,9 +8,14 @@ import org.jsonbuddy.JsonNull;
 import org.jsonbuddy.JsonNumber;
 import org.jsonbuddy.JsonObject;
 import org.jsonbuddy.JsonString;
+import org.jsonbuddy.stream.JsonWriter;
+import org.jsonbuddy.stream.SerializedName;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -19,13 +24,20 @@ import java.net.InetAddress;
 import java.net.URI;
 import java.net.URL;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -35,11 +47,58 @@ import java.util.stream.Stream;
  */
 public class JsonGenerator {
 
+    private static final Pattern CAMEL_CASE_BOUNDARY = Pattern.compile("([a-z])([A-Z]+)");
+
     public static final Function<String, String> UNDERSCORE_TRANSFORMER = 
-            s -> s.replaceAll("([a-z])([A-Z]+)", "$1_$2").toLowerCase();
+            s -> CAMEL_CASE_BOUNDARY.matcher(s).replaceAll("$1_$2").toLowerCase();
     
+    private static final ClassValue<List<PropertyGetter>> REFLECTION_GETTERS = new ClassValue<List<PropertyGetter>>() {
+        @Override
+        protected List<PropertyGetter> computeValue(Class<?> type) {
+            return findGetters(type, new PropertyAccessors(false));
+        }
+    };
+
+    /**
+     * The same properties in the same order as {@link #REFLECTION_GETTERS}, so they share {@link #PROPERTY_NAMES}
+     */
+    private static final ClassValue<List<PropertyGetter>> COMPILED_GETTERS = new ClassValue<List<PropertyGetter>>() {
+        @Override
+        protected List<PropertyGetter> computeValue(Class<?> type) {
+            return withAccessors(REFLECTION_GETTERS.get(type), new PropertyAccessors(true));
+        }
+    };
+
+    /**
+     * The JSON names of the properties of each class for each name transformer, and
+     * the getters they are read from. The transformers are weakly referenced, so transformers
+     * that are created for each generator don't accumulate.
+     */
+    private static final ClassValue<Map<Function<String, String>, PropertyTable>> PROPERTY_NAMES = new ClassValue<Map<Function<String, String>, PropertyTable>>() {
+        @Override
+        protected Map<Function<String, String>, PropertyTable> computeValue(Class<?> type) {
+            return Collections.synchronizedMap(new WeakHashMap<>());
+        }
+    };
+
     private final boolean useDeclaringClassAsTemplate;
     private Function<String, String> nameTransformer = Function.identity();
+    private ClassValue<List<PropertyGetter>> getters = REFLECTION_GETTERS;
+    private final Map<Class<?>, PropertyTable> propertyNames = new ConcurrentHashMap<>();
+    private final boolean overridesNodeGeneration = overrides(getClass(), "generateNode", "handleSpecificClass");
+    private final boolean overridesNaming = overrides(getClass(), "getName", "transformName");
+
+    private static boolean overrides(Class<?> generatorClass, String... methodNames) {
+        List<String> names = Arrays.asList(methodNames);
+        for (Class<?> c = generatorClass; c != JsonGenerator.class; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (names.contains(method.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 
     public JsonGenerator(boolean useDeclaringClassAsTemplate) {
         this.useDeclaringClassAsTemplate = useDeclaringClassAsTemplate;
@@ -90,27 +149,49 @@ public class JsonGenerator {
         return new JsonGenerator(true).generateNode(object, Optional.of(classToUse));
     }
 
-    private final Map<Class<?>, Function<Object, JsonNode>> converters = new HashMap<>();
+    private static final Function<Object, JsonNode> NO_CONVERTER = o -> null;
+
+    private final Map<Class<?>, Function<Object, JsonNode>> converters = new LinkedHashMap<>();
+    /** The converter to use for each class of object that has been generated, or NO_CONVERTER */
+    private final Map<Class<?>, Function<Object, JsonNode>> resolvedConverters = new ConcurrentHashMap<>();
     {
         addConverter(String.class, JsonString::new);
-        addConverter(Number.class, JsonNumber::new);
-        addConverter(Boolean.class, JsonBoolean::new);
-        addConverter(Enum.class, o -> new JsonString(o.toString()));
+        addConverter(Number.class, JsonNumber::of);
+        addConverter(Boolean.class, JsonBoolean::of);
+        addConverter(Enum.class, o -> EnumConstants.of(o.getDeclaringClass()).toJson(o));
         addConverter(UUID.class, o -> new JsonString(o.toString()));
         addConverter(URL.class, o -> new JsonString(o.toString()));
         addConverter(URI.class, o -> new JsonString(o.toString()));
         addConverter(InetAddress.class, o -> new JsonString(o.getHostName()));
         addConverter(Temporal.class, o -> new JsonString(o.toString()));
-        addConverter(Optional.class, o -> (JsonNode) o.map(this::generateNode).orElse(new JsonNull()));
+        addConverter(Optional.class, o -> (JsonNode) o.map(this::generateNode).orElse(JsonNull.INSTANCE));
     }
 
+    /**
+     * Generates JSON with the converter for objects of the sourceClass or its subclasses.
+     * When several converters apply to an object, the one registered for the most
+     * specific class is used. If none of these classes is more specific than
+     * the others, the most recently registered converter is used.
+     */
     public <T> void addConverter(Class<T> sourceClass, Function<T, JsonNode> converter) {
+        converters.remove(sourceClass);
         //noinspection unchecked
         converters.put(sourceClass,  (Function<Object, JsonNode>) converter);
+        resolvedConverters.clear();
     }
 
     public JsonGenerator withNameTransformer(Function<String, String> nameTransformer) {
         this.nameTransformer = nameTransformer;
+        this.propertyNames.clear();
+        return this;
+    }
+
+    /**
+     * Reads fields and calls getters with {@link java.lang.invoke.MethodHandle}s instead of
+     * reflection. Fields and getters that can't be unreflected are still read with reflection.
+     */
+    public JsonGenerator withCompiledAccessors() {
+        this.getters = COMPILED_GETTERS;
         return this;
     }
 
@@ -118,17 +199,110 @@ public class JsonGenerator {
         return generateNode(object, Optional.empty());
     }
 
+    /**
+     * Serializes the argument as JSON to the {@link JsonWriter}, according to the
+     * same rules as {@link #generateNode(Object)}. Objects, maps, collections and
+     * arrays are written as they are traversed instead of being converted to
+     * JsonNodes first, and Streams are consumed one element at a time.
+     * Converters and {@link OverridesJsonGenerator} still produce a JsonNode,
+     * which is then written.
+     * <p>
+     * If a subclass overrides {@link #generateNode(Object, Optional)} or
+     * {@link #handleSpecificClass}, the JsonNode is generated first so
+     * the overridden methods are used.
+     */
+    public void write(Object object, JsonWriter writer) throws IOException {
+        if (overridesNodeGeneration) {
+            generateNode(object).toJson(writer);
+        } else {
+            write(object, Optional.empty(), writer);
+        }
+    }
+
+    /**
+     * Serializes the argument as UTF-8 encoded JSON to the OutputStream.
+     * See {@link #write(Object, JsonWriter)}. The OutputStream is flushed, but not closed.
+     */
+    public void write(Object object, OutputStream outputStream) throws IOException {
+        JsonWriter writer = new JsonWriter(outputStream);
+        write(object, writer);
+        writer.flush();
+    }
+
+    /**
+     * Serializes the argument as JSON to the Writer.
+     * See {@link #write(Object, JsonWriter)}. The Writer is flushed, but not closed.
+     */
+    public void write(Object object, Writer writer) throws IOException {
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        write(object, jsonWriter);
+        jsonWriter.flush();
+    }
+
+    private void write(Object object, Optional<Type> objectType, JsonWriter writer) throws IOException {
+        if (object == null) {
+            writer.nullValue();
+            return;
+        }
+        if (object instanceof JsonNode) {
+            writer.value((JsonNode) object);
+            return;
+        }
+        Function<Object, JsonNode> converter = findConverter(object.getClass());
+        if (converter != null) {
+            writer.value(converter.apply(object));
+        } else if (object instanceof Map) {
+            Optional<Type> valueType = objectType.map(this::getElementClass);
+            writer.beginObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                writer.name(entry.getKey().toString());
+                write(entry.getValue(), valueType, writer);
+            }
+            writer.endObject();
+        } else if (object instanceof Collection) {
+            writeArray(((Collection<?>) object).iterator(), objectType.map(this::getElementClass), writer);
+        } else if (object instanceof Stream) {
+            writeArray(((Stream<?>) object).iterator(), objectType.map(this::getElementClass), writer);
+        } else if (object.getClass().isArray()) {
+            writeArray(Arrays.asList((Object[]) object).iterator(), objectType.map(this::getElementClass), writer);
+        } else if (object instanceof OverridesJsonGenerator) {
+            writer.value(((OverridesJsonGenerator) object).jsonValue());
+        } else {
+            writeSpecificClass(object, objectType, writer);
+        }
+    }
+
+    private void writeArray(Iterator<?> elements, Optional<Type> elementType, JsonWriter writer) throws IOException {
+        writer.beginArray();
+        while (elements.hasNext()) {
+            write(elements.next(), elementType, writer);
+        }
+        writer.endArray();
+    }
+
+    private void writeSpecificClass(Object object, Optional<Type> objectType, JsonWriter writer) throws IOException {
+        Class<?> theClass = objectType.isPresent() && this.useDeclaringClassAsTemplate ? getRawType(objectType.get()) : object.getClass();
+        List<PropertyGetter> classGetters = getters.get(theClass);
+        PropertyTable properties = propertyTable(theClass);
+        writer.beginObject();
+        for (int i = 0; i < properties.names.length; i++) {
+            PropertyGetter getter = classGetters.get(properties.getterIndexes[i]);
+            writer.name(properties.names[i]);
+            write(getValue(getter, object), Optional.of(getter.getType()), writer);
+        }
+        writer.endObject();
+    }
+
     public JsonNode generateNode(Object object, Optional<Type> objectType) {
         if (object == null) {
-            return new JsonNull();
+            return JsonNull.INSTANCE;
         }
         if (object instanceof JsonNode) {
             return (JsonNode) object;
         }
-        for (Class<?> converterClass : converters.keySet()) {
-            if (converterClass.isAssignableFrom(object.getClass())) {
-                return converters.get(converterClass).apply(object);
-            }
+        Function<Object, JsonNode> converter = findConverter(object.getClass());
+        if (converter != null) {
+            return converter.apply(object);
         }
         if (object instanceof Map) {
             JsonObject jsonObject = JsonFactory.jsonObject();
@@ -152,6 +326,29 @@ public class JsonGenerator {
         return handleSpecificClass(object, objectType);
     }
 
+    private Function<Object, JsonNode> findConverter(Class<?> objectClass) {
+        Function<Object, JsonNode> converter = resolvedConverters.computeIfAbsent(objectClass, this::resolveConverter);
+        return converter != NO_CONVERTER ? converter : null;
+    }
+
+    private Function<Object, JsonNode> resolveConverter(Class<?> objectClass) {
+        List<Class<?>> candidates = new ArrayList<>();
+        for (Class<?> converterClass : converters.keySet()) {
+            if (converterClass.isAssignableFrom(objectClass)) {
+                candidates.add(converterClass);
+            }
+        }
+        Class<?> chosen = null;
+        for (Class<?> candidate : candidates) {
+            boolean hasMoreSpecific = candidates.stream()
+                    .anyMatch(other -> other != candidate && candidate.isAssignableFrom(other));
+            if (!hasMoreSpecific) {
+                chosen = candidate;
+            }
+        }
+        return chosen != null ? converters.get(chosen) : NO_CONVERTER;
+    }
+
     public static boolean isGetMethod(Method method) {
         if (!Modifier.isPublic(method.getModifiers()) || method.getDeclaringClass() == Object.class) {
             return false;
@@ -178,29 +375,102 @@ public class JsonGenerator {
     protected JsonObject handleSpecificClass(Object object, Optional<Type> objectType) {
         JsonObject jsonObject = JsonFactory.jsonObject();
         Class<?> theClass = objectType.isPresent() && this.useDeclaringClassAsTemplate ? getRawType(objectType.get()) : object.getClass();
+        List<PropertyGetter> classGetters = getters.get(theClass);
+        PropertyTable properties = propertyTable(theClass);
+        for (int i = 0; i < properties.names.length; i++) {
+            PropertyGetter getter = classGetters.get(properties.getterIndexes[i]);
+            jsonObject.put(properties.names[i].getName(), generateNode(getValue(getter, object), Optional.of(getter.getType())));
+        }
+        return jsonObject;
+    }
+
+    /**
+     * The transformed names of the properties of the class, computed once per class
+     * and name transformer. Generators that override {@link #getName(Field)},
+     * {@link #getName(Method)} or {@link #transformName(String)} don't share the names
+     * with other generators.
+     */
+    private PropertyTable propertyTable(Class<?> theClass) {
+        return propertyNames.computeIfAbsent(theClass, c -> overridesNaming
+                ? createPropertyTable(c)
+                : PROPERTY_NAMES.get(c).computeIfAbsent(nameTransformer, t -> createPropertyTable(c)));
+    }
+
+    /**
+     * When several getters get the same name, like a public field and its getter, the
+     * last one is used at the position of the first, like {@link JsonObject#put} does
+     */
+    private PropertyTable createPropertyTable(Class<?> theClass) {
+        List<PropertyGetter> classGetters = REFLECTION_GETTERS.get(theClass);
+        Map<String, Integer> getterIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < classGetters.size(); i++) {
+            getterIndexes.put(getName(classGetters.get(i)), i);
+        }
+        return new PropertyTable(getterIndexes);
+    }
+
+    /**
+     * The unique JSON names of the properties of a class, each with the
+     * index of the getter in {@link #REFLECTION_GETTERS} to read it from
+     */
+    private static class PropertyTable {
+        private final SerializedName[] names;
+        private final int[] getterIndexes;
+
+        PropertyTable(Map<String, Integer> getterIndexes) {
+            names = new SerializedName[getterIndexes.size()];
+            this.getterIndexes = new int[getterIndexes.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : getterIndexes.entrySet()) {
+                names[i] = SerializedName.of(entry.getKey());
+                this.getterIndexes[i] = entry.getValue();
+                i++;
+            }
+        }
+    }
+
+    private String getName(PropertyGetter getter) {
+        Member member = getter.getMember();
+        return member instanceof Field ? getName((Field) member) : getName((Method) member);
+    }
+
+    private static Object getValue(PropertyGetter getter, Object object) {
+        try {
+            return getter.get(object);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The public instance fields followed by the getters of the class
+     */
+    private static List<PropertyGetter> findGetters(Class<?> theClass, PropertyAccessors accessors) {
+        List<PropertyGetter> getters = new ArrayList<>();
         for (Field field : theClass.getFields()) {
             if (Modifier.isPublic(field.getModifiers()) && !Modifier.isStatic(field.getModifiers())) {
-                try {
-                    jsonObject.put(getName(field),
-                            generateNode(field.get(object), Optional.of(field.getGenericType())));
-                } catch (IllegalAccessException e) {
-                    throw new RuntimeException(e);
-                }
+                getters.add(new PropertyGetter(field, accessors.fieldGetter(field)));
             }
         }
         for (Method method : theClass.getMethods()) {
             if (isGetMethod(method)) {
-                try {
-                    jsonObject.put(
-                            getName(method),
-                            generateNode(method.invoke(object), Optional.of(method.getGenericReturnType()))
-                    );
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new RuntimeException(e);
-                }
+                getters.add(new PropertyGetter(method, accessors.methodGetter(method)));
             }
         }
-        return jsonObject;
+        return getters;
+    }
+
+    private static List<PropertyGetter> withAccessors(List<PropertyGetter> getters, PropertyAccessors accessors) {
+        List<PropertyGetter> result = new ArrayList<>();
+        for (PropertyGetter getter : getters) {
+            Member member = getter.getMember();
+            result.add(member instanceof Field
+                    ? new PropertyGetter((Field) member, accessors.fieldGetter((Field) member))
+                    : new PropertyGetter((Method) member, accessors.methodGetter((Method) member)));
+        }
+        return result;
     }
 
     private Type getElementClass(Type type) {
@@ -0,0 +1,71 @@
+package org.jsonbuddy.pojo;
+
+import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
+
+/**
+ * The {@link JsonPojoBuilder} of classes annotated with {@link OverrideMapper}, looked
+ * up once per class. A builder is constructed once and shared, unless it is declared
+ * {@link OverrideMapper#stateful()}, in which case a new one is constructed for every value.
+ */
+class OverrideBuilders {
+
+    private static final Supplier<JsonPojoBuilder<?>> NOT_ANNOTATED = () -> null;
+
+    private static final ClassValue<Supplier<JsonPojoBuilder<?>>> BUILDERS = new ClassValue<Supplier<JsonPojoBuilder<?>>>() {
+        @Override
+        protected Supplier<JsonPojoBuilder<?>> computeValue(Class<?> clazz) {
+            return findBuilder(clazz);
+        }
+    };
+
+    /**
+     * True if the class is annotated with {@link OverrideMapper}
+     */
+    static boolean isOverridden(Class<?> clazz) {
+        return BUILDERS.get(clazz) != NOT_ANNOTATED;
+    }
+
+    /**
+     * The builder for the class, or null if the class is not annotated with {@link OverrideMapper}
+     *
+     * @throws CanNotMapException if the builder could not be constructed
+     */
+    static JsonPojoBuilder<?> of(Class<?> clazz) {
+        return BUILDERS.get(clazz).get();
+    }
+
+    private static Supplier<JsonPojoBuilder<?>> findBuilder(Class<?> clazz) {
+        OverrideMapper annotation = clazz.getAnnotation(OverrideMapper.class);
+        if (annotation == null) {
+            return NOT_ANNOTATED;
+        }
+        Constructor<? extends JsonPojoBuilder<?>> constructor;
+        try {
+            constructor = annotation.using().getConstructor();
+        } catch (NoSuchMethodException | SecurityException e) {
+            return () -> {
+                throw new CanNotMapException(e);
+            };
+        }
+        if (annotation.stateful()) {
+            return () -> newInstance(constructor);
+        }
+        try {
+            JsonPojoBuilder<?> builder = constructor.newInstance();
+            return () -> builder;
+        } catch (Exception e) {
+            return () -> {
+                throw new CanNotMapException(e);
+            };
+        }
+    }
+
+    private static JsonPojoBuilder<?> newInstance(Constructor<? extends JsonPojoBuilder<?>> constructor) {
+        try {
+            return constructor.newInstance();
+        } catch (Exception e) {
+            throw new CanNotMapException(e);
+        }
+    }
+}
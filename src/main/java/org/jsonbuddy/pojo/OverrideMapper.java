@@ -9,4 +9,11 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface OverrideMapper {
     Class<? extends JsonPojoBuilder<?>> using();
+
+    /**
+     * By default, one instance of the builder is created and shared by all
+     * mappings of the class. Set to true if the builder keeps state between
+     * calls to {@link JsonPojoBuilder#build}, so each value gets a new builder.
+     */
+    boolean stateful() default false;
 }
@@ -1,13 +1,22 @@
 package org.jsonbuddy.pojo;
 
 import org.jsonbuddy.JsonArray;
+import org.jsonbuddy.JsonBoolean;
 import org.jsonbuddy.JsonConversionException;
 import org.jsonbuddy.JsonNode;
 import org.jsonbuddy.JsonNull;
+import org.jsonbuddy.JsonNumber;
 import org.jsonbuddy.JsonObject;
+import org.jsonbuddy.JsonString;
 import org.jsonbuddy.JsonValue;
-
-import java.lang.reflect.Constructor;
+import org.jsonbuddy.parse.JsonParseException;
+import org.jsonbuddy.parse.JsonParser;
+import org.jsonbuddy.parse.JsonToken;
+import org.jsonbuddy.parse.JsonTokenizer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -30,6 +39,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -71,6 +81,55 @@ public class PojoMapper {
         return create(options).mapArrayToPojo(jsonArray,listClazz);
     }
 
+    /**
+     * Lazily converts each JsonNode of the argument Stream into an object of the
+     * specified class, for example the Stream from {@link JsonArray#streamElements}.
+     * Closing the returned Stream closes the argument Stream.
+     *
+     * Each element is mapped according to {@link #mapToPojo(JsonNode, Type)}.
+     *
+     * @throws CanNotMapException (when the Stream is consumed) if there is no appropriate constructor
+     */
+    public static <T> Stream<T> map(Stream<? extends JsonNode> nodes, Class<T> clazz, PojoMappingRule... options) {
+        PojoMapper mapper = create(options);
+        return nodes.map(node -> mapper.<T>mapToPojo(node, clazz));
+    }
+
+    /**
+     * Reads the UTF-8 encoded JSON of the InputStream directly into an object of the specified
+     * class, without first parsing it into a JsonNode. Keys with no corresponding field or setter
+     * are skipped without being parsed. The result is the same as
+     * <code>map(JsonParser.parse(input), clazz, options)</code>.
+     *
+     * @return the object, or null if the input was empty
+     * @throws CanNotMapException if there is no appropriate constructor
+     * @throws org.jsonbuddy.parse.JsonParseException if a JSON syntax error was encountered
+     * @throws IOException if there was an error reading the data from the InputStream
+     */
+    public static <T> T read(InputStream input, Class<T> clazz, PojoMappingRule... options) throws IOException {
+        return create(options).readValue(JsonTokenizer.of(input), clazz);
+    }
+
+    /**
+     * Reads the UTF-8 encoded JSON directly into an object of the specified class.
+     * See {@link #read(InputStream, Class, PojoMappingRule...)}.
+     */
+    public static <T> T read(byte[] input, Class<T> clazz, PojoMappingRule... options) {
+        try {
+            return create(options).readValue(JsonTokenizer.of(input, 0, input.length), clazz);
+        } catch (IOException e) {
+            throw new RuntimeException("Should never happen with byte array", e);
+        }
+    }
+
+    /**
+     * Reads the JSON of the Reader directly into an object of the specified class.
+     * See {@link #read(InputStream, Class, PojoMappingRule...)}.
+     */
+    public static <T> T read(Reader input, Class<T> clazz, PojoMappingRule... options) throws IOException {
+        return create(options).readValue(JsonTokenizer.of(input), clazz);
+    }
+
     /**
      * Converts the argument JsonNode into any parameterized or plain type of the specified type.
      * The JsonNode is mapped according to {@link #mapToPojo(JsonNode, Type)}.
@@ -83,8 +142,52 @@ public class PojoMapper {
 
     private final List<PojoMappingRule> mappingRules;
 
+    /**
+     * The class mappings of plain PojoMappers only depend on the class, so they are shared
+     * between instances. Subclasses may override how keys are resolved, so each subclass
+     * instance has its own cache.
+     */
+    private static final ClassValue<ClassMapping> SHARED_CLASS_MAPPINGS = new ClassValue<ClassMapping>() {
+        @Override
+        protected ClassMapping computeValue(Class<?> type) {
+            return new ClassMapping(type);
+        }
+    };
+
+    private static final ClassValue<ClassMapping> SHARED_COMPILED_CLASS_MAPPINGS = new ClassValue<ClassMapping>() {
+        @Override
+        protected ClassMapping computeValue(Class<?> type) {
+            return new ClassMapping(type);
+        }
+    };
+
+    private Function<Class<?>, ClassMapping> classMappings;
+    private final boolean readsDirectly;
+    private PropertyAccessors accessors = new PropertyAccessors(false);
+
     public PojoMapper(PojoMappingRule... options) {
         this.mappingRules = options == null ? Collections.emptyList() : Arrays.asList(options);
+        this.classMappings = createClassMappings(SHARED_CLASS_MAPPINGS);
+        this.readsDirectly = mappingRules.isEmpty() && getClass() == PojoMapper.class;
+    }
+
+    /**
+     * Sets fields and calls setters with {@link java.lang.invoke.MethodHandle}s instead of
+     * reflection. Fields and setters that can't be unreflected are still set with reflection.
+     */
+    public PojoMapper withCompiledAccessors() {
+        this.accessors = new PropertyAccessors(true);
+        this.classMappings = createClassMappings(SHARED_COMPILED_CLASS_MAPPINGS);
+        return this;
+    }
+
+    private Function<Class<?>, ClassMapping> createClassMappings(ClassValue<ClassMapping> sharedClassMappings) {
+        if (getClass() == PojoMapper.class) {
+            return sharedClassMappings::get;
+        } else {
+            Map<Class<?>, ClassMapping> instanceClassMappings = new ConcurrentHashMap<>();
+            return clazz -> instanceClassMappings.computeIfAbsent(clazz, ClassMapping::new);
+        }
     }
 
     /**
@@ -109,6 +212,141 @@ public class PojoMapper {
         }
     }
 
+    /**
+     * Reads the next value of the tokenizer directly into an object of the specified type,
+     * with the same result as mapping the parsed value with {@link #mapToPojo(JsonNode, Type)}.
+     * Objects of classes without an {@link OverrideMapper}, maps, collections and simple values
+     * are read directly from the tokens. Other values are parsed to a JsonNode and mapped.
+     * <p>
+     * If the mapper has mapping rules or is a subclass of PojoMapper, all values are parsed
+     * to a JsonNode first, as the rules and overridden methods require it.
+     *
+     * @return the object, or null if the tokenizer had no more values
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(JsonTokenizer tokenizer, Type type) throws IOException {
+        JsonToken token = tokenizer.nextToken();
+        if (token == null) {
+            return null;
+        }
+        try {
+            return (T) readValue(tokenizer, token, type);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw ExceptionUtil.soften(e);
+        }
+    }
+
+    private Object readValue(JsonTokenizer tokenizer, JsonToken token, Type type) throws IOException {
+        Class<?> clazz = getClassType(type);
+        if (!canReadDirectly(clazz)) {
+            return mapValue(JsonParser.parseValue(tokenizer, token), type);
+        }
+        if (clazz == Optional.class) {
+            return token == JsonToken.NULL
+                    ? Optional.empty()
+                    : Optional.of(readValue(tokenizer, token, getElementClass(type)));
+        }
+        if (token == JsonToken.NULL) {
+            return null;
+        }
+        boolean isMap = Map.class.isAssignableFrom(clazz);
+        boolean isCollection = Collection.class.isAssignableFrom(clazz) || Stream.class.isAssignableFrom(clazz);
+        if (token == JsonToken.START_OBJECT && isMap && type instanceof ParameterizedType) {
+            return readMap(tokenizer, ((ParameterizedType) type).getActualTypeArguments()[1]);
+        } else if (token == JsonToken.START_ARRAY && isCollection && getElementClass(type) != null) {
+            return readCollection(tokenizer, type, getElementClass(type));
+        } else if (token == JsonToken.START_OBJECT && !isMap && !isCollection && !clazz.isInterface()) {
+            return readObject(tokenizer, clazz);
+        } else if (token == JsonToken.STRING && !isMap && !isCollection) {
+            return convertIfNecessary(tokenizer.text(), clazz);
+        } else if (token == JsonToken.NUMBER && !isMap && !isCollection) {
+            return convertIfNecessary(tokenizer.number(), clazz);
+        } else if ((token == JsonToken.TRUE || token == JsonToken.FALSE) && !isMap && !isCollection) {
+            return convertIfNecessary(token == JsonToken.TRUE, clazz);
+        }
+        return mapValue(JsonParser.parseValue(tokenizer, token), type);
+    }
+
+    /**
+     * Values can be read directly unless they are mapped by a rule or an {@link OverrideMapper},
+     * or the type is a supertype of a JsonNode, in which case the JsonNode itself is the value
+     */
+    private boolean canReadDirectly(Class<?> clazz) {
+        return readsDirectly && DIRECTLY_READABLE.get(clazz);
+    }
+
+    private static final ClassValue<Boolean> DIRECTLY_READABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> clazz) {
+            return !OverrideBuilders.isOverridden(clazz)
+                    && !clazz.isAssignableFrom(JsonObject.class)
+                    && !clazz.isAssignableFrom(JsonArray.class)
+                    && !clazz.isAssignableFrom(JsonString.class)
+                    && !clazz.isAssignableFrom(JsonNumber.class)
+                    && !clazz.isAssignableFrom(JsonBoolean.class)
+                    && !clazz.isAssignableFrom(JsonNull.class);
+        }
+    };
+
+    private Map<String, Object> readMap(JsonTokenizer tokenizer, Type valueType) throws IOException {
+        Map<String, Object> result = new HashMap<>();
+        while (tokenizer.nextToken() != JsonToken.END_OBJECT) {
+            String key = tokenizer.text();
+            result.put(key, readValue(tokenizer, tokenizer.nextToken(), valueType));
+        }
+        return result;
+    }
+
+    private Object readCollection(JsonTokenizer tokenizer, Type collectionType, Type elementType) throws IOException {
+        Class<?> collectionClass = getClassType(collectionType);
+        Collection<Object> result;
+        if (collectionClass == Set.class) {
+            result = new HashSet<>();
+        } else if (collectionClass == List.class || collectionClass == Collection.class || collectionClass == Stream.class) {
+            result = new ArrayList<>();
+        } else {
+            throw new CanNotMapException("Cannot map JsonArray to " + collectionType);
+        }
+        JsonToken token;
+        while ((token = tokenizer.nextToken()) != JsonToken.END_ARRAY) {
+            result.add(readValue(tokenizer, token, elementType));
+        }
+        return collectionClass == Stream.class ? result.stream() : result;
+    }
+
+    private Object readObject(JsonTokenizer tokenizer, Class<?> clazz) throws IOException {
+        ClassMapping classMapping = classMappings.apply(clazz);
+        Object result;
+        try {
+            result = classMapping.getConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            throw new CanNotMapException(e.getMessage());
+        }
+        while (tokenizer.nextToken() != JsonToken.END_OBJECT) {
+            String key = tokenizer.text();
+            PropertySetter setter = classMapping.getSetter(key, this::findSetter);
+            JsonToken token = tokenizer.nextToken();
+            if (setter == null) {
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    tokenizer.skipChildren();
+                }
+                continue;
+            }
+            try {
+                setter.set(result, readValue(tokenizer, token, setter.getType()));
+            } catch (IOException | JsonParseException | CanNotMapException e) {
+                throw e;
+            } catch (JsonConversionException e) {
+                throw new CanNotMapException("Cannot set " + key + ": " + e.getMessage());
+            } catch (Exception e) {
+                throw new CanNotMapException(e);
+            }
+        }
+        return result;
+    }
+
     /**
      * Try to convert the argument JsonArray into a list of the specified class.
      * See {@link #map(JsonObject, Class, PojoMappingRule...)} (JsonArray, Class)}.
@@ -176,10 +414,10 @@ public class PojoMapper {
 
     private Object mapValue(JsonNode jsonNode, Type type) throws CanNotMapException {
         Class<?> clazz = getClassType(type);
-        if (clazz.isAnnotationPresent(OverrideMapper.class)) {
-            OverrideMapper[] annotationsByType = clazz.getAnnotationsByType(OverrideMapper.class);
+        JsonPojoBuilder<?> builder = OverrideBuilders.of(clazz);
+        if (builder != null) {
             try {
-                return annotationsByType[0].using().getConstructor().newInstance().build(jsonNode);
+                return builder.build(jsonNode);
             } catch (Exception e) {
                 throw new CanNotMapException(e);
             }
@@ -253,40 +491,23 @@ public class PojoMapper {
     }
 
     private Object convertTemporal(Object value, Class<?> destinationType) {
-        try {
-            Method parseMethod = destinationType.getMethod("parse", CharSequence.class);
-            return parseMethod.invoke(null, value.toString());
-        } catch (NoSuchMethodException|SecurityException|IllegalAccessException e) {
-            throw new CanNotMapException("Could not find " + destinationType.getName() + "::parse");
-        } catch (InvocationTargetException e) {
-            if (e.getTargetException() instanceof RuntimeException) {
-                throw (RuntimeException)e.getTargetException();
-            } else {
-                throw new CanNotMapException("Cannot map to " + destinationType + ": " + e);
-            }
-        }
+        return TemporalParsers.of(destinationType).apply(value.toString());
     }
 
     protected Object convertEnumValue(Object value, Class<?> destinationType) {
-        String stringValue = value.toString();
-        Object[] enumConstants = destinationType.getEnumConstants();
-        return Arrays.stream(enumConstants)
-                .filter(o -> stringValue.equals(o.toString()))
-                .findAny()
-                .orElseThrow(() -> new CanNotMapException("Illegal value " + value + " for " + destinationType.getSimpleName() + ". Valid options are " + Arrays.asList(enumConstants)));
+        EnumConstants enumConstants = EnumConstants.of(destinationType);
+        Enum<?> result = enumConstants.fromString(value.toString());
+        if (result == null) {
+            throw new CanNotMapException("Illegal value " + value + " for " + destinationType.getSimpleName() + ". Valid options are " + enumConstants.constants());
+        }
+        return result;
     }
 
     protected Object mapToJavaObject(JsonObject jsonObject, Class<?> clazz) {
-        Constructor<?> constructor;
-        try {
-            constructor = clazz.getDeclaredConstructor();
-        } catch (NoSuchMethodException | SecurityException e1) {
-            throw new CanNotMapException(String.format("Class %s has no default constructor",clazz.getName()));
-        }
-        constructor.setAccessible(true);
+        ClassMapping classMapping = classMappings.apply(clazz);
         Object result;
         try {
-            result = constructor.newInstance();
+            result = classMapping.getConstructor().newInstance();
         } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
             throw new CanNotMapException(e.getMessage());
         }
@@ -295,19 +516,17 @@ public class PojoMapper {
     }
 
     protected void writeFields(Object result, JsonObject jsonObject, Class<?> clazz) {
+        ClassMapping classMapping = classMappings.apply(clazz);
+        boolean usesSetterHooks = getClass() != PojoMapper.class;
         for (String key : jsonObject.keys()) {
             try {
-                if (tryToSetField(clazz, result, fieldName(key), jsonObject.requiredValue(key))) {
+                if (usesSetterHooks) {
+                    setWithHooks(clazz, result, key, jsonObject.requiredValue(key));
                     continue;
                 }
-                if (tryToSetField(clazz, result, key, jsonObject.requiredValue(key))) {
-                    continue;
-                }
-                if (tryToSetProperty(clazz, result, fieldName(key), jsonObject.requiredValue(key))) {
-                    continue;
-                }
-                if (tryToSetProperty(clazz, result, key, jsonObject.requiredValue(key))) {
-                    continue;
+                PropertySetter setter = classMapping.getSetter(key, this::findSetter);
+                if (setter != null) {
+                    setter.set(result, mapValue(jsonObject.requiredValue(key), setter.getType()));
                 }
             } catch (CanNotMapException e) {
                 throw e;
@@ -319,28 +538,74 @@ public class PojoMapper {
         }
     }
 
-    protected boolean tryToSetField(Class<?> clazz, Object instance, String fieldName, JsonNode value) throws Exception {
-        Field declaredField;
+    /**
+     * Sets the value for the key through {@link #tryToSetField} and {@link #tryToSetProperty},
+     * in the same order as {@link #findSetter}, so subclasses that override them are respected
+     */
+    private void setWithHooks(Class<?> clazz, Object instance, String key, JsonNode value) throws Exception {
+        if (!tryToSetField(clazz, instance, fieldName(key), value)
+                && !tryToSetField(clazz, instance, key, value)
+                && !tryToSetProperty(clazz, instance, fieldName(key), value)) {
+            tryToSetProperty(clazz, instance, key, value);
+        }
+    }
+
+    /**
+     * Finds the field or setter that the argument JSON key is mapped to. In order, tries
+     * the field named {@link #fieldName}(key), the field named key, the setter for
+     * fieldName(key) and the setter for key.
+     *
+     * @return the setter, or null if the key should be ignored
+     */
+    private PropertySetter findSetter(Class<?> clazz, String key) {
+        PropertySetter setter = findFieldSetter(clazz, fieldName(key));
+        if (setter == null) {
+            setter = findFieldSetter(clazz, key);
+        }
+        if (setter == null) {
+            setter = findPropertySetter(clazz, fieldName(key));
+        }
+        if (setter == null) {
+            setter = findPropertySetter(clazz, key);
+        }
+        return setter;
+    }
+
+    private PropertySetter findFieldSetter(Class<?> clazz, String fieldName) {
+        Field field;
         try {
-            declaredField = clazz.getDeclaredField(fieldName);
+            field = clazz.getDeclaredField(fieldName);
         } catch (NoSuchFieldException e) {
+            return null;
+        }
+        field.setAccessible(true);
+        return new PropertySetter(field.getGenericType(), accessors.fieldSetter(field));
+    }
+
+    private PropertySetter findPropertySetter(Class<?> clazz, String fieldName) {
+        String setterName = setterName(fieldName);
+        return Arrays.stream(clazz.getMethods())
+                .filter(met -> setterName.equals(met.getName()) && met.getParameterCount() == 1)
+                .findAny()
+                .map(method -> new PropertySetter(method.getGenericParameterTypes()[0], accessors.methodSetter(method)))
+                .orElse(null);
+    }
+
+    protected boolean tryToSetField(Class<?> clazz, Object instance, String fieldName, JsonNode value) throws Exception {
+        PropertySetter setter = findFieldSetter(clazz, fieldName);
+        if (setter == null) {
             return false;
         }
-        declaredField.setAccessible(true);
-        declaredField.set(instance, mapValue(value, declaredField.getGenericType()));
-        declaredField.setAccessible(false);
+        setter.set(instance, mapValue(value, setter.getType()));
         return true;
     }
 
     protected boolean tryToSetProperty(Class<?> clazz, Object instance, String fieldName, JsonNode value) throws Exception {
-        String setterName = setterName(fieldName);
-        Optional<Method> setter = Arrays.stream(clazz.getMethods())
-                .filter(met -> setterName.equals(met.getName()) && met.getParameterCount() == 1)
-                .findAny();
-        if (!setter.isPresent()) {
+        PropertySetter setter = findPropertySetter(clazz, fieldName);
+        if (setter == null) {
             return false;
         }
-        setter.get().invoke(instance, mapValue(value, setter.get().getGenericParameterTypes()[0]));
+        setter.set(instance, mapValue(value, setter.getType()));
         return true;
     }
 
@@ -0,0 +1,123 @@
+package org.jsonbuddy.pojo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Creates the {@link PropertySetter.Setter}s and {@link PropertyGetter.Getter}s that
+ * {@link PojoMapper} and {@link JsonGenerator} use to access fields and properties.
+ * <p>
+ * By default, the accessors use reflection. Compiled accessors use {@link MethodHandle}s,
+ * which the JIT compiler can inline into the caller. Members that can't be unreflected
+ * fall back to reflection.
+ */
+class PropertyAccessors {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final boolean compiled;
+
+    PropertyAccessors(boolean compiled) {
+        this.compiled = compiled;
+    }
+
+    /**
+     * The field must be accessible
+     */
+    PropertySetter.Setter fieldSetter(Field field) {
+        if (!compiled) {
+            return field::set;
+        }
+        PropertySetter.Setter setter;
+        try {
+            setter = setter(MethodHandles.lookup().unreflectSetter(field));
+        } catch (IllegalAccessException e) {
+            return field::set;
+        }
+        return rejectingNull(field.getType(), "field " + field.getDeclaringClass().getName() + "." + field.getName(), setter);
+    }
+
+    PropertySetter.Setter methodSetter(Method method) {
+        if (!compiled) {
+            return (instance, value) -> method.invoke(instance, value);
+        }
+        PropertySetter.Setter setter;
+        try {
+            setter = setter(MethodHandles.lookup().unreflect(method));
+        } catch (IllegalAccessException e) {
+            return (instance, value) -> method.invoke(instance, value);
+        }
+        return rejectingNull(method.getParameterTypes()[0], "parameter of " + method, setter);
+    }
+
+    /**
+     * The field must be accessible
+     */
+    PropertyGetter.Getter fieldGetter(Field field) {
+        if (!compiled) {
+            return field::get;
+        }
+        try {
+            return getter(MethodHandles.lookup().unreflectGetter(field));
+        } catch (IllegalAccessException e) {
+            return field::get;
+        }
+    }
+
+    PropertyGetter.Getter methodGetter(Method method) {
+        if (!compiled) {
+            return method::invoke;
+        }
+        try {
+            return getter(MethodHandles.lookup().unreflect(method));
+        } catch (IllegalAccessException e) {
+            return method::invoke;
+        }
+    }
+
+    /**
+     * MethodHandles fail with a NullPointerException when unboxing null for a primitive,
+     * where reflection throws IllegalArgumentException. This keeps the reflective behavior.
+     */
+    private static PropertySetter.Setter rejectingNull(Class<?> type, String target, PropertySetter.Setter setter) {
+        if (!type.isPrimitive()) {
+            return setter;
+        }
+        return (instance, value) -> {
+            if (value == null) {
+                throw new IllegalArgumentException("Can not set " + type.getName() + " " + target + " to null value");
+            }
+            setter.set(instance, value);
+        };
+    }
+
+    private static PropertySetter.Setter setter(MethodHandle handle) {
+        MethodHandle setter = handle.asType(SETTER_TYPE);
+        return (instance, value) -> {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    private static PropertyGetter.Getter getter(MethodHandle handle) {
+        MethodHandle getter = handle.asType(GETTER_TYPE);
+        return instance -> {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+}
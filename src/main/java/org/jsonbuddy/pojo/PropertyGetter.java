@@ -0,0 +1,51 @@
+package org.jsonbuddy.pojo;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+/**
+ * Reads a resolved field or calls a resolved getter on an object
+ * that is being serialized by {@link JsonGenerator}
+ */
+class PropertyGetter {
+
+    interface Getter {
+        Object get(Object instance) throws Exception;
+    }
+
+    private final Member member;
+    private final Type type;
+    private final Getter getter;
+
+    PropertyGetter(Field field, Getter getter) {
+        this.member = field;
+        this.type = field.getGenericType();
+        this.getter = getter;
+    }
+
+    PropertyGetter(Method method, Getter getter) {
+        this.member = method;
+        this.type = method.getGenericReturnType();
+        this.getter = getter;
+    }
+
+    /**
+     * The public field or getter method that is read
+     */
+    Member getMember() {
+        return member;
+    }
+
+    /**
+     * The (potentially generic) type of the field or getter return value
+     */
+    Type getType() {
+        return type;
+    }
+
+    Object get(Object instance) throws Exception {
+        return getter.get(instance);
+    }
+}
@@ -0,0 +1,33 @@
+package org.jsonbuddy.pojo;
+
+import java.lang.reflect.Type;
+
+/**
+ * Sets a resolved field or calls a resolved setter on an object
+ * that is being mapped by {@link PojoMapper}
+ */
+class PropertySetter {
+
+    interface Setter {
+        void set(Object instance, Object value) throws Exception;
+    }
+
+    private final Type type;
+    private final Setter setter;
+
+    PropertySetter(Type type, Setter setter) {
+        this.type = type;
+        this.setter = setter;
+    }
+
+    /**
+     * The (potentially generic) type of the field or setter parameter
+     */
+    Type getType() {
+        return type;
+    }
+
+    void set(Object instance, Object value) throws Exception {
+        setter.set(instance, value);
+    }
+}
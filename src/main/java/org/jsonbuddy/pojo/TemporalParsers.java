@@ -0,0 +1,170 @@
+package org.jsonbuddy.pojo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.time.temporal.Temporal;
+import java.util.function.Function;
+
+/**
+ * Parses strings to {@link Temporal} types with the static <code>parse(CharSequence)</code>
+ * method of each type, which is resolved once per type. ISO-8601 {@link Instant}s and
+ * {@link LocalDate}s in their most common form are parsed by hand without
+ * a DateTimeFormatter. Anything else is left to the parse method, which also
+ * reports any errors.
+ */
+class TemporalParsers {
+
+    private static final ClassValue<Function<CharSequence, Temporal>> PARSERS = new ClassValue<Function<CharSequence, Temporal>>() {
+        @Override
+        protected Function<CharSequence, Temporal> computeValue(Class<?> type) {
+            return findParser(type);
+        }
+    };
+
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int DAYS_0000_TO_1970 = 719528;
+
+    /**
+     * The parser for the Temporal type
+     */
+    static Function<CharSequence, Temporal> of(Class<?> type) {
+        return PARSERS.get(type);
+    }
+
+    private static Function<CharSequence, Temporal> findParser(Class<?> type) {
+        if (type == Instant.class) {
+            return TemporalParsers::parseInstant;
+        } else if (type == LocalDate.class) {
+            return TemporalParsers::parseLocalDate;
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime::parse;
+        } else if (type == LocalTime.class) {
+            return LocalTime::parse;
+        } else if (type == OffsetDateTime.class) {
+            return OffsetDateTime::parse;
+        } else if (type == OffsetTime.class) {
+            return OffsetTime::parse;
+        } else if (type == ZonedDateTime.class) {
+            return ZonedDateTime::parse;
+        } else if (type == Year.class) {
+            return Year::parse;
+        } else if (type == YearMonth.class) {
+            return YearMonth::parse;
+        }
+        MethodHandle parseMethod;
+        try {
+            Method method = type.getMethod("parse", CharSequence.class);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                throw new NoSuchMethodException(method.toString());
+            }
+            parseMethod = MethodHandles.publicLookup().unreflect(method)
+                    .asType(MethodType.methodType(Temporal.class, CharSequence.class));
+        } catch (NoSuchMethodException | SecurityException | IllegalAccessException e) {
+            return text -> {
+                throw new CanNotMapException("Could not find " + type.getName() + "::parse");
+            };
+        }
+        return text -> {
+            try {
+                return (Temporal) parseMethod.invokeExact(text);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new CanNotMapException("Cannot map to " + type + ": " + e);
+            }
+        };
+    }
+
+    /**
+     * Parses <code>yyyy-MM-ddTHH:mm:ss[.fraction]Z</code> directly, and other
+     * formats with {@link Instant#parse}
+     */
+    static Instant parseInstant(CharSequence text) {
+        int length = text.length();
+        if (length < 20 || length > 30 || text.charAt(length - 1) != 'Z' || !isDate(text)
+                || text.charAt(10) != 'T' || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            return Instant.parse(text);
+        }
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        int nanos = 0;
+        if (length > 20) {
+            int fractionLength = length - 21;
+            if (text.charAt(19) != '.' || fractionLength == 0) {
+                return Instant.parse(text);
+            }
+            nanos = digits(text, 20, fractionLength);
+            for (int i = fractionLength; i < 9 && nanos >= 0; i++) {
+                nanos *= 10;
+            }
+        } else if (text.charAt(19) != 'Z') {
+            return Instant.parse(text);
+        }
+        int epochDay = epochDay(text);
+        if (epochDay == Integer.MIN_VALUE || hour < 0 || hour > 23 || minute < 0 || minute > 59
+                || second < 0 || second > 59 || nanos < 0) {
+            return Instant.parse(text);
+        }
+        return Instant.ofEpochSecond((long) epochDay * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second, nanos);
+    }
+
+    /**
+     * Parses <code>yyyy-MM-dd</code> directly, and other formats with {@link LocalDate#parse}
+     */
+    static LocalDate parseLocalDate(CharSequence text) {
+        if (text.length() != 10 || !isDate(text) || epochDay(text) == Integer.MIN_VALUE) {
+            return LocalDate.parse(text);
+        }
+        return LocalDate.of(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2));
+    }
+
+    private static boolean isDate(CharSequence text) {
+        return text.charAt(4) == '-' && text.charAt(7) == '-';
+    }
+
+    /**
+     * The days since 1970-01-01 of the <code>yyyy-MM-dd</code> at the start of the
+     * text, or Integer.MIN_VALUE if the date is not valid
+     */
+    private static int epochDay(CharSequence text) {
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return Integer.MIN_VALUE;
+        }
+        int dayOfYear = Month.of(month).firstDayOfYear(Year.isLeap(year)) + day - 1;
+        int previousYear = year - 1;
+        int daysBeforeYear = year == 0 ? 0 : 366 + previousYear * 365 + previousYear / 4 - previousYear / 100 + previousYear / 400;
+        return daysBeforeYear + dayOfYear - 1 - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * The decimal value of count digits starting at offset, or -1 if any is not a digit
+     */
+    private static int digits(CharSequence text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,268 @@
+package org.jsonbuddy.stream;
+
+import org.jsonbuddy.JsonConversionException;
+import org.jsonbuddy.JsonNode;
+import org.jsonbuddy.parse.JsonParseException;
+import org.jsonbuddy.parse.JsonParser;
+import org.jsonbuddy.parse.JsonToken;
+import org.jsonbuddy.parse.JsonTokenizer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Reads JSON one token at a time without building a tree of the whole
+ * document. Use {@link #nextToken()} to move through the input,
+ * {@link #skipChildren()} to skip objects and arrays you're not interested in
+ * and {@link #readNode()} to read a part of the input as a JsonNode.
+ * <p>
+ * For example, given <code>{"orders":[{"id":1},{"id":2}]}</code>, the
+ * tokens are START_OBJECT, FIELD_NAME (orders), START_ARRAY, START_OBJECT,
+ * FIELD_NAME (id), NUMBER (1), END_OBJECT, ... END_ARRAY, END_OBJECT.
+ * <p>
+ * JsonReader uses the same tokenizer as {@link JsonParser} and reports
+ * syntax errors with {@link JsonParseException}.
+ */
+public class JsonReader implements Closeable {
+
+    private final JsonTokenizer tokenizer;
+    private JsonToken currentToken;
+    private String currentName;
+    private String[] names = new String[16];
+    private int depth;
+
+    public JsonReader(JsonTokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    public JsonReader(Reader reader) {
+        this(JsonTokenizer.of(reader));
+    }
+
+    public JsonReader(String input) {
+        this(JsonTokenizer.of(input));
+    }
+
+    /**
+     * Reads the UTF-8 encoded InputStream
+     */
+    public JsonReader(InputStream input) {
+        this(JsonTokenizer.of(input));
+    }
+
+    /**
+     * Reads the UTF-8 encoded bytes
+     */
+    public JsonReader(byte[] input) {
+        this(JsonTokenizer.of(input, 0, input.length));
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded bytes of the buffer
+     */
+    public JsonReader(ByteBuffer input) {
+        this(JsonTokenizer.of(input));
+    }
+
+    /**
+     * Reads the UTF-8 encoded file through memory mapped windows.
+     * Remember to {@link #close()} the reader to release the file.
+     */
+    public JsonReader(Path path) throws IOException {
+        this(JsonTokenizer.of(path));
+    }
+
+    /**
+     * Moves to the next token of the input.
+     *
+     * @return the next token, or null at the end of the input
+     * @throws JsonParseException if a JSON syntax error was encountered
+     */
+    public JsonToken nextToken() throws IOException {
+        currentToken = tokenizer.nextToken();
+        if (currentToken == null) {
+            currentName = null;
+            return null;
+        }
+        switch (currentToken) {
+            case START_OBJECT:
+            case START_ARRAY:
+                currentName = names[depth];
+                if (++depth == names.length) {
+                    names = Arrays.copyOf(names, depth * 2);
+                }
+                names[depth] = null;
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                currentName = names[--depth];
+                break;
+            case FIELD_NAME:
+                currentName = names[depth] = tokenizer.text();
+                break;
+            default:
+                currentName = names[depth];
+        }
+        return currentToken;
+    }
+
+    /**
+     * The token that was last returned by {@link #nextToken()}
+     */
+    public JsonToken currentToken() {
+        return currentToken;
+    }
+
+    /**
+     * The name of the object field that the current token belongs to. For
+     * {@link JsonToken#START_OBJECT} and {@link JsonToken#START_ARRAY}, this is
+     * the field name of the object or array itself. Returns null for values
+     * that are not inside an object.
+     */
+    public String currentName() {
+        return currentName;
+    }
+
+    /**
+     * Returns the current value as a String. Numbers and booleans are
+     * returned as their JSON text. Returns null for JSON null.
+     *
+     * @throws JsonConversionException if the current token is not a value
+     */
+    public String getString() {
+        if (currentToken == null) {
+            throw new JsonConversionException("No current token");
+        }
+        switch (currentToken) {
+            case STRING:
+            case FIELD_NAME:
+                return tokenizer.text();
+            case NUMBER:
+                return tokenizer.number().toString();
+            case TRUE:
+                return "true";
+            case FALSE:
+                return "false";
+            case NULL:
+                return null;
+            default:
+                throw new JsonConversionException("Can't convert " + currentToken + " to String");
+        }
+    }
+
+    /**
+     * Returns the current value as a Number. Strings are parsed as numbers.
+     *
+     * @throws JsonConversionException if the current token is not convertible to a number
+     */
+    public Number getNumber() {
+        if (currentToken == JsonToken.NUMBER) {
+            return tokenizer.number();
+        } else if (currentToken == JsonToken.STRING) {
+            try {
+                return Double.parseDouble(tokenizer.text());
+            } catch (NumberFormatException e) {
+                throw new JsonConversionException(tokenizer.text() + " is not numeric");
+            }
+        }
+        throw new JsonConversionException("Can't convert " + currentToken + " to number");
+    }
+
+    /**
+     * Returns the current value as a long.
+     *
+     * @throws JsonConversionException if the current token is not convertible to a number
+     */
+    public long getLong() {
+        if (currentToken == JsonToken.NUMBER) {
+            return tokenizer.longValue();
+        } else if (currentToken == JsonToken.STRING) {
+            try {
+                return Long.parseLong(tokenizer.text());
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return getNumber().longValue();
+    }
+
+    /**
+     * Returns the current value as a double.
+     *
+     * @throws JsonConversionException if the current token is not convertible to a number
+     */
+    public double getDouble() {
+        if (currentToken == JsonToken.NUMBER) {
+            return tokenizer.doubleValue();
+        }
+        return getNumber().doubleValue();
+    }
+
+    /**
+     * Returns the current value as a boolean. Strings are parsed with
+     * {@link Boolean#parseBoolean}.
+     *
+     * @throws JsonConversionException if the current token is not convertible to a boolean
+     */
+    public boolean getBoolean() {
+        if (currentToken == JsonToken.TRUE) {
+            return true;
+        } else if (currentToken == JsonToken.FALSE) {
+            return false;
+        } else if (currentToken == JsonToken.STRING) {
+            return Boolean.parseBoolean(tokenizer.text());
+        }
+        throw new JsonConversionException("Can't convert " + currentToken + " to boolean");
+    }
+
+    /**
+     * If the current token is {@link JsonToken#START_OBJECT} or {@link JsonToken#START_ARRAY},
+     * moves to the matching {@link JsonToken#END_OBJECT} or {@link JsonToken#END_ARRAY}
+     * without creating any values. Otherwise, does nothing.
+     *
+     * @throws JsonParseException if a JSON syntax error was encountered
+     */
+    public void skipChildren() throws IOException {
+        if (currentToken == JsonToken.START_OBJECT || currentToken == JsonToken.START_ARRAY) {
+            tokenizer.skipChildren();
+            currentToken = currentToken == JsonToken.START_OBJECT ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+            currentName = names[--depth];
+        }
+    }
+
+    /**
+     * Reads the value at the current position as a JsonNode. If the current token
+     * starts a value, this value is returned. Otherwise (at the start of the input
+     * or at {@link JsonToken#FIELD_NAME}), the reader moves to the next token first.
+     * After reading an object or an array, the current token is the
+     * corresponding END_OBJECT or END_ARRAY.
+     *
+     * @return the value, or null at the end of the input
+     * @throws JsonParseException if a JSON syntax error was encountered or if
+     *          the current token is the end of an object or array
+     */
+    public JsonNode readNode() throws IOException {
+        if (currentToken == null || currentToken == JsonToken.FIELD_NAME) {
+            if (nextToken() == null) {
+                return null;
+            }
+        }
+        if (currentToken == JsonToken.START_OBJECT || currentToken == JsonToken.START_ARRAY) {
+            JsonToken startToken = currentToken;
+            JsonNode node = JsonParser.parseValue(tokenizer, startToken);
+            currentToken = startToken == JsonToken.START_OBJECT ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+            currentName = names[--depth];
+            return node;
+        }
+        return JsonParser.parseValue(tokenizer, currentToken);
+    }
+
+    @Override
+    public void close() throws IOException {
+        tokenizer.close();
+    }
+}
@@ -0,0 +1,476 @@
+package org.jsonbuddy.stream;
+
+import org.jsonbuddy.JsonNode;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes JSON one element at a time without building a tree of JsonNodes.
+ * When writing to an OutputStream, the output is encoded as UTF-8 directly
+ * into a reusable buffer which is written to the stream when it is full.
+ * <p>
+ * For example, <code>writer.beginObject().name("name").value("Darth Vader")
+ * .name("children").beginArray().value("Luke").value("Leia").endArray()
+ * .endObject()</code> writes
+ * <code>{"name":"Darth Vader","children":["Luke","Leia"]}</code>.
+ * <p>
+ * Call {@link #flush()} or {@link #close()} to write the buffered output.
+ * Methods that are called out of order (like a value in an object without
+ * a {@link #name}) throw IllegalStateException.
+ */
+public class JsonWriter implements Closeable, Flushable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Leaves room for the longest output of a single character
+     * (a \\uXXXX escape or a four byte UTF-8 sequence)
+     */
+    private static final int MAX_CHAR_LENGTH = 6;
+
+    private static final int ROOT = 0;
+    private static final int EMPTY_OBJECT = 1;
+    private static final int OBJECT = 2;
+    private static final int OBJECT_VALUE = 3;
+    private static final int EMPTY_ARRAY = 4;
+    private static final int ARRAY = 5;
+
+    /**
+     * The escape sequences of the ASCII characters that must be escaped in JSON
+     * strings: quotation mark, reverse solidus and the control characters
+     * below 0x20 (RFC 8259 section 7)
+     */
+    private static final String[] ESCAPES = new String[128];
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = String.format("\\u%04X", c);
+        }
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+    }
+
+    /**
+     * Writes the string to the PrintWriter with the characters that must be
+     * escaped in JSON replaced by their escape sequences. Runs of characters
+     * that need no escaping are written directly from the string.
+     */
+    public static void writeEscaped(PrintWriter out, String value) {
+        int runStart = 0;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80 && ESCAPES[c] != null) {
+                out.write(value, runStart, i - runStart);
+                out.write(ESCAPES[c]);
+                runStart = i + 1;
+            }
+        }
+        out.write(value, runStart, value.length() - runStart);
+    }
+
+    private final OutputStream out;
+    private final Writer writer;
+    private final byte[] bytes;
+    private final char[] chars;
+    private int position;
+
+    private int[] stack = new int[16];
+    private int depth;
+
+    /**
+     * Writes UTF-8 encoded JSON to the OutputStream
+     */
+    public JsonWriter(OutputStream out) {
+        this.out = out;
+        this.writer = null;
+        this.bytes = new byte[BUFFER_SIZE];
+        this.chars = null;
+    }
+
+    /**
+     * Writes JSON characters to the Writer
+     */
+    public JsonWriter(Writer writer) {
+        this.out = null;
+        this.writer = writer;
+        this.bytes = null;
+        this.chars = new char[BUFFER_SIZE];
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        beforeValue();
+        push(EMPTY_OBJECT);
+        writeAscii('{');
+        return this;
+    }
+
+    public JsonWriter endObject() throws IOException {
+        if (stack[depth] != EMPTY_OBJECT && stack[depth] != OBJECT) {
+            throw new IllegalStateException("endObject() called outside an object or after name()");
+        }
+        depth--;
+        writeAscii('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        beforeValue();
+        push(EMPTY_ARRAY);
+        writeAscii('[');
+        return this;
+    }
+
+    public JsonWriter endArray() throws IOException {
+        if (stack[depth] != EMPTY_ARRAY && stack[depth] != ARRAY) {
+            throw new IllegalStateException("endArray() called outside an array");
+        }
+        depth--;
+        writeAscii(']');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next object property. Must be followed by a value.
+     */
+    public JsonWriter name(String name) throws IOException {
+        if (stack[depth] == OBJECT) {
+            writeAscii(',');
+        } else if (stack[depth] != EMPTY_OBJECT) {
+            throw new IllegalStateException("name() called outside an object or after name()");
+        }
+        stack[depth] = OBJECT_VALUE;
+        writeQuoted(name);
+        writeAscii(':');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next object property from its prepared encoding.
+     * Must be followed by a value.
+     */
+    public JsonWriter name(SerializedName name) throws IOException {
+        if (stack[depth] == OBJECT) {
+            writeAscii(',');
+        } else if (stack[depth] != EMPTY_OBJECT) {
+            throw new IllegalStateException("name() called outside an object or after name()");
+        }
+        stack[depth] = OBJECT_VALUE;
+        if (bytes != null) {
+            writeRaw(name.utf8);
+        } else {
+            writeRaw(name.chars);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the String as an escaped JSON string, or null if the value is null
+     */
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeQuoted(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        writeLong(value);
+        return this;
+    }
+
+    public JsonWriter value(double value) throws IOException {
+        beforeValue();
+        writeAscii(Double.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes the number as its {@link Number#toString()} representation,
+     * or null if the value is null
+     */
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return value(value.longValue());
+        }
+        beforeValue();
+        writeAscii(value.toString());
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        writeAscii(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes the JsonNode and all its children, or null if the value is null
+     */
+    public JsonWriter value(JsonNode value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        value.toJson(this);
+        return this;
+    }
+
+    /**
+     * Writes a value that is already serialized as JSON without escaping it.
+     * The caller is responsible for passing valid JSON.
+     */
+    public JsonWriter rawValue(String json) throws IOException {
+        beforeValue();
+        if (bytes != null) {
+            writeRaw(json.getBytes(StandardCharsets.UTF_8));
+        } else {
+            writeChars(json, 0, json.length());
+        }
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        beforeValue();
+        writeAscii("null");
+        return this;
+    }
+
+    /**
+     * Writes the buffered output and flushes the underlying stream or writer
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        if (out != null) {
+            out.flush();
+        } else {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Writes the buffered output and closes the underlying stream or writer
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+        } finally {
+            if (out != null) {
+                out.close();
+            } else {
+                writer.close();
+            }
+        }
+    }
+
+    private void beforeValue() throws IOException {
+        switch (stack[depth]) {
+            case ROOT:
+                break;
+            case EMPTY_ARRAY:
+                stack[depth] = ARRAY;
+                break;
+            case ARRAY:
+                writeAscii(',');
+                break;
+            case OBJECT_VALUE:
+                stack[depth] = OBJECT;
+                break;
+            default:
+                throw new IllegalStateException("Expected name() before value in object");
+        }
+    }
+
+    private void push(int state) {
+        if (++depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth] = state;
+    }
+
+    /**
+     * Writes a character without any encoding. Used by {@link NdJsonWriter}
+     * for line breaks between values.
+     */
+    void writeAscii(char c) throws IOException {
+        if (position == BUFFER_SIZE) {
+            flushBuffer();
+        }
+        if (bytes != null) {
+            bytes[position++] = (byte) c;
+        } else {
+            chars[position++] = c;
+        }
+    }
+
+    /**
+     * Writes the characters of the string without any encoding. Strings that
+     * are longer than the buffer, like very large numbers, are written in chunks.
+     */
+    private void writeAscii(String s) throws IOException {
+        if (position + s.length() > BUFFER_SIZE) {
+            flushBuffer();
+        }
+        if (bytes == null) {
+            writeChars(s, 0, s.length());
+            return;
+        }
+        for (int start = 0, length = s.length(); start < length; ) {
+            if (position == BUFFER_SIZE) {
+                flushBuffer();
+            }
+            int end = Math.min(length, start + BUFFER_SIZE - position);
+            for (int i = start; i < end; i++) {
+                bytes[position++] = (byte) s.charAt(i);
+            }
+            start = end;
+        }
+    }
+
+    private void writeRaw(byte[] value) throws IOException {
+        if (position + value.length > BUFFER_SIZE) {
+            flushBuffer();
+        }
+        if (value.length > BUFFER_SIZE) {
+            out.write(value);
+            return;
+        }
+        System.arraycopy(value, 0, bytes, position, value.length);
+        position += value.length;
+    }
+
+    private void writeRaw(char[] value) throws IOException {
+        if (position + value.length > BUFFER_SIZE) {
+            flushBuffer();
+        }
+        if (value.length > BUFFER_SIZE) {
+            writer.write(value);
+            return;
+        }
+        System.arraycopy(value, 0, chars, position, value.length);
+        position += value.length;
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        if (position + 20 > BUFFER_SIZE) {
+            flushBuffer();
+        }
+        if (value < 0) {
+            writeAscii('-');
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            char digit = (char) ('0' + value % 10);
+            if (bytes != null) {
+                bytes[i] = (byte) digit;
+            } else {
+                chars[i] = digit;
+            }
+            value /= 10;
+        }
+        position = end;
+    }
+
+    private void writeQuoted(String s) throws IOException {
+        writeAscii('"');
+        if (bytes != null) {
+            writeUtf8(s);
+        } else {
+            writeChars(s);
+        }
+        writeAscii('"');
+    }
+
+    private void writeUtf8(String s) throws IOException {
+        for (int i = 0, length = s.length(); i < length; i++) {
+            if (position + MAX_CHAR_LENGTH > BUFFER_SIZE) {
+                flushBuffer();
+            }
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                String escape = ESCAPES[c];
+                if (escape == null) {
+                    bytes[position++] = (byte) c;
+                } else {
+                    writeAscii(escape);
+                }
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xc0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                bytes[position++] = (byte) (0xf0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                bytes[position++] = '?';
+            } else {
+                bytes[position++] = (byte) (0xe0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                bytes[position++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+    }
+
+    private void writeChars(String s) throws IOException {
+        int runStart = 0;
+        for (int i = 0, length = s.length(); i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80 && ESCAPES[c] != null) {
+                writeChars(s, runStart, i);
+                writeAscii(ESCAPES[c]);
+                runStart = i + 1;
+            }
+        }
+        writeChars(s, runStart, s.length());
+    }
+
+    private void writeChars(String s, int start, int end) throws IOException {
+        while (start < end) {
+            if (position == BUFFER_SIZE) {
+                flushBuffer();
+            }
+            int count = Math.min(end - start, BUFFER_SIZE - position);
+            s.getChars(start, start + count, chars, position);
+            position += count;
+            start += count;
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            if (out != null) {
+                out.write(bytes, 0, position);
+            } else {
+                writer.write(chars, 0, position);
+            }
+            position = 0;
+        }
+    }
+}
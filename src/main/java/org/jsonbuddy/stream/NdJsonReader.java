@@ -0,0 +1,251 @@
+package org.jsonbuddy.stream;
+
+import org.jsonbuddy.JsonNode;
+import org.jsonbuddy.parse.JsonParseException;
+import org.jsonbuddy.parse.JsonParser;
+import org.jsonbuddy.parse.JsonTokenizer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads newline delimited JSON (also known as NDJSON or JSON Lines), where
+ * each line of the input is a separate JSON value. Blank lines are ignored.
+ * Each line is parsed directly from the bytes of the input without
+ * creating a String for the line.
+ * <p>
+ * For in-memory input, {@link #parallelStream(byte[], boolean)} and
+ * {@link #parse(byte[], ForkJoinPool, boolean)} split the input at
+ * line boundaries and parse the chunks in parallel.
+ */
+public class NdJsonReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Minimum number of bytes in a chunk before it is split further
+     * for parallel parsing
+     */
+    private static final int MIN_CHUNK_SIZE = 16 * 1024;
+
+    /**
+     * Returns the values of the UTF-8 encoded InputStream as a lazy Stream. Each line is
+     * parsed when the Stream requests it. The InputStream is closed when the Stream is closed.
+     *
+     * @throws JsonParseException (when the Stream is consumed) if a line is not valid JSON
+     * @throws UncheckedIOException (when the Stream is consumed) if there
+     *             was an error reading the data from the InputStream
+     */
+    public static Stream<JsonNode> stream(InputStream input) {
+        return StreamSupport.stream(new InputStreamLineSpliterator(input), false)
+                .onClose(() -> {
+                    try {
+                        input.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Returns the values of the UTF-8 encoded file as a lazy Stream.
+     * See {@link #stream(InputStream)}.
+     *
+     * @throws IOException if the file could not be opened
+     */
+    public static Stream<JsonNode> stream(Path path) throws IOException {
+        return stream(Files.newInputStream(path));
+    }
+
+    /**
+     * Returns the values of the UTF-8 encoded bytes as a sequential Stream.
+     *
+     * @throws JsonParseException (when the Stream is consumed) if a line is not valid JSON
+     */
+    public static Stream<JsonNode> stream(byte[] input) {
+        return StreamSupport.stream(new ByteArrayLineSpliterator(input, 0, input.length), false);
+    }
+
+    /**
+     * Returns the values of the UTF-8 encoded bytes as a parallel Stream. The
+     * input is split in chunks at line boundaries, which are parsed by the
+     * ForkJoinPool that runs the terminal operation of the Stream (normally
+     * {@link ForkJoinPool#commonPool()}).
+     *
+     * @param ordered if false, the Stream makes no guarantee about the order of the
+     *                values, which lets operations like {@link Stream#collect} finish faster
+     * @throws JsonParseException (when the Stream is consumed) if a line is not valid JSON
+     */
+    public static Stream<JsonNode> parallelStream(byte[] input, boolean ordered) {
+        Stream<JsonNode> stream = StreamSupport.stream(new ByteArrayLineSpliterator(input, 0, input.length), true);
+        return ordered ? stream : stream.unordered();
+    }
+
+    /**
+     * Parses the lines of the UTF-8 encoded bytes in parallel in the argument ForkJoinPool.
+     *
+     * @param ordered if true, the values are returned in the order of the input
+     * @throws JsonParseException if a line is not valid JSON
+     */
+    public static List<JsonNode> parse(byte[] input, ForkJoinPool pool, boolean ordered) {
+        return pool.submit(() -> parallelStream(input, ordered).collect(Collectors.toList())).join();
+    }
+
+    /**
+     * Parses a line as a JsonNode, or returns null if the line is blank
+     *
+     * @throws JsonParseException if the line is not a single JSON value
+     */
+    private static JsonNode parseLine(byte[] input, int offset, int length) {
+        JsonTokenizer tokenizer = JsonTokenizer.of(input, offset, length);
+        try {
+            JsonNode node = JsonParser.parse(tokenizer);
+            tokenizer.requireEndOfInput();
+            return node;
+        } catch (IOException e) {
+            throw new RuntimeException("Should never happen with byte array", e);
+        }
+    }
+
+    private static class InputStreamLineSpliterator extends Spliterators.AbstractSpliterator<JsonNode> {
+
+        private final InputStream input;
+        private byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private boolean eof;
+
+        InputStreamLineSpliterator(InputStream input) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.input = input;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super JsonNode> action) {
+            try {
+                int scanned = position;
+                while (true) {
+                    int newline = indexOf('\n', buffer, scanned, limit);
+                    if (newline < 0 && eof) {
+                        if (position == limit) {
+                            return false;
+                        }
+                        newline = limit;
+                    }
+                    if (newline >= 0) {
+                        JsonNode node = parseLine(buffer, position, newline - position);
+                        position = Math.min(newline + 1, limit);
+                        if (node != null) {
+                            action.accept(node);
+                            return true;
+                        }
+                        scanned = position;
+                        continue;
+                    }
+                    scanned = limit - position;
+                    fill();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Moves the unprocessed bytes to the start of the buffer and
+         * reads more input after them, growing the buffer if it is full.
+         */
+        private void fill() throws IOException {
+            if (position > 0) {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                limit -= position;
+                position = 0;
+            }
+            if (limit == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            int read = input.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+    }
+
+    private static class ByteArrayLineSpliterator implements Spliterator<JsonNode> {
+
+        private final byte[] input;
+        private int position;
+        private final int end;
+
+        ByteArrayLineSpliterator(byte[] input, int position, int end) {
+            this.input = input;
+            this.position = position;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super JsonNode> action) {
+            while (position < end) {
+                int newline = indexOf('\n', input, position, end);
+                int lineEnd = newline < 0 ? end : newline;
+                JsonNode node = parseLine(input, position, lineEnd - position);
+                position = newline < 0 ? end : newline + 1;
+                if (node != null) {
+                    action.accept(node);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Splits off the first half of the remaining input, ending at the
+         * first line break after the middle
+         */
+        @Override
+        public Spliterator<JsonNode> trySplit() {
+            if (end - position < MIN_CHUNK_SIZE) {
+                return null;
+            }
+            int newline = indexOf('\n', input, position + (end - position) / 2, end);
+            if (newline < 0) {
+                return null;
+            }
+            ByteArrayLineSpliterator prefix = new ByteArrayLineSpliterator(input, position, newline + 1);
+            position = newline + 1;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        }
+    }
+
+    private static int indexOf(char c, byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
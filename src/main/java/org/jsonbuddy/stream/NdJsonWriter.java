@@ -0,0 +1,68 @@
+package org.jsonbuddy.stream;
+
+import org.jsonbuddy.JsonNode;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.stream.Stream;
+
+/**
+ * Writes newline delimited JSON (also known as NDJSON or JSON Lines): Each
+ * value is written as compact JSON on a line of its own.
+ */
+public class NdJsonWriter implements Closeable, Flushable {
+
+    private final JsonWriter writer;
+
+    /**
+     * Writes UTF-8 encoded lines to the OutputStream
+     */
+    public NdJsonWriter(OutputStream output) {
+        this.writer = new JsonWriter(output);
+    }
+
+    public NdJsonWriter(Writer writer) {
+        this.writer = new JsonWriter(writer);
+    }
+
+    /**
+     * Writes the value followed by a newline
+     */
+    public NdJsonWriter write(JsonNode node) throws IOException {
+        node.toJson(writer);
+        writer.writeAscii('\n');
+        return this;
+    }
+
+    /**
+     * Writes each value of the Stream on a line of its own
+     */
+    public NdJsonWriter writeAll(Stream<? extends JsonNode> nodes) throws IOException {
+        try {
+            nodes.forEachOrdered(node -> {
+                try {
+                    write(node);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
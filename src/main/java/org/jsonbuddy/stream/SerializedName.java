@@ -0,0 +1,48 @@
+package org.jsonbuddy.stream;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An object property name that is escaped, quoted and encoded once, so
+ * {@link JsonWriter#name(SerializedName)} can copy it directly into the
+ * output. Use this for names that are written many times, such as the
+ * properties of a class.
+ */
+public final class SerializedName {
+
+    private final String name;
+    /** The escaped and quoted name followed by a colon */
+    final char[] chars;
+    /** {@link #chars} encoded as UTF-8 */
+    final byte[] utf8;
+
+    private SerializedName(String name) {
+        this.name = name;
+        StringWriter quoted = new StringWriter();
+        PrintWriter printWriter = new PrintWriter(quoted);
+        printWriter.append('"');
+        JsonWriter.writeEscaped(printWriter, name);
+        printWriter.append("\":");
+        printWriter.flush();
+        this.chars = quoted.toString().toCharArray();
+        this.utf8 = quoted.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static SerializedName of(String name) {
+        return new SerializedName(name);
+    }
+
+    /**
+     * The name as it was before escaping
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -3,13 +3,22 @@ package org.jsonbuddy;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import org.jsonbuddy.parse.JsonParseException;
 import org.jsonbuddy.parse.JsonParser;
 import org.junit.Test;
 
@@ -253,4 +262,63 @@ public class JsonArrayTest {
         assertThat(jsonArray).isEqualTo(expected);
     }
 
+    @Test
+    public void shouldStreamElementsLazily() throws IOException {
+        JsonArray array = new JsonArray();
+        for (int i = 0; i < 10000; i++) {
+            array.add(new JsonObject().put("id", i).put("tags", new JsonArray().add("a").add("b")));
+        }
+        byte[] bytes = array.toJson().getBytes(StandardCharsets.UTF_8);
+        AtomicInteger bytesRead = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream input = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                int read = super.read(b, off, len);
+                bytesRead.addAndGet(Math.max(read, 0));
+                return read;
+            }
+
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        try (Stream<JsonNode> elements = JsonArray.streamElements(input)) {
+            Iterator<JsonNode> iterator = elements.iterator();
+            assertThat(iterator.next()).isEqualTo(array.get(0, JsonObject.class));
+            assertThat(iterator.next()).isEqualTo(array.get(1, JsonObject.class));
+            assertThat(bytesRead.get()).isLessThan(bytes.length);
+            assertThat(closed).isFalse();
+        }
+        assertThat(closed).isTrue();
+
+        try (Stream<JsonNode> elements = JsonArray.streamElements(new StringReader(array.toJson()))) {
+            assertThat(elements.mapToLong(o -> ((JsonObject) o).requiredLong("id")).sum())
+                    .isEqualTo(9999L * 10000 / 2);
+        }
+    }
+
+    @Test
+    public void shouldStreamValuesOfAnyType() {
+        Stream<JsonNode> elements = JsonParser.streamArray(new StringReader("[1, \"two\", null, [3], {}, ]"));
+        assertThat(elements).containsExactly(new JsonNumber(1L), new JsonString("two"), new JsonNull(),
+                new JsonArray().add(3), new JsonObject());
+        assertThat(JsonParser.streamArray(new StringReader("[]"))).isEmpty();
+    }
+
+    @Test
+    public void shouldReportErrorsWhenStreaming() {
+        assertThatThrownBy(() -> JsonParser.streamArray(new StringReader("{}")).count())
+                .isInstanceOf(JsonParseException.class)
+                .hasMessage("Expected JSON array got START_OBJECT");
+        assertThatThrownBy(() -> JsonParser.streamArray(new StringReader("")).count())
+                .isInstanceOf(JsonParseException.class)
+                .hasMessage("Expected JSON array got null");
+        assertThatThrownBy(() -> JsonParser.streamArray(new StringReader("[1, 2")).count())
+                .isInstanceOf(JsonParseException.class)
+                .hasMessage("Expected , or ] in array");
+    }
+
 }
@@ -4,8 +4,10 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -229,6 +231,44 @@ public class JsonObjectTest {
             .isEqualTo(source.toJson());
     }
 
+    @Test
+    public void shouldKeepInsertionOrderWhenGrowingAndRemoving() {
+        JsonObject o = new JsonObject();
+        List<String> expectedKeys = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            o.put("key" + i, i);
+            expectedKeys.add("key" + i);
+        }
+        o.put("key3", "replaced");
+        assertThat(o.remove("key7")).contains(new JsonNumber(7L));
+        assertThat(o.remove("key7")).isEmpty();
+        expectedKeys.remove("key7");
+        o.keys().removeIf(key -> key.endsWith("5"));
+        expectedKeys.removeIf(key -> key.endsWith("5"));
+
+        assertThat(o.keys()).containsExactlyElementsOf(expectedKeys);
+        assertThat(o.size()).isEqualTo(expectedKeys.size());
+        assertThat(o.requiredString("key3")).isEqualTo("replaced");
+        assertThat(o.requiredLong("key39")).isEqualTo(39);
+        assertThat(o.containsKey("key15")).isFalse();
+        o.put("key7", 7);
+        assertThat(o.keys()).endsWith("key7");
+        assertThat(o.toJson()).startsWith("{\"key0\":0,\"key1\":1,\"key2\":2,\"key3\":\"replaced\",\"key4\":4,\"key6\"");
+    }
+
+    @Test
+    public void shouldBeEqualRegardlessOfOrder() {
+        JsonObject first = new JsonObject().put("a", 1).put("b", "two").put("c", new JsonArray().add(3));
+        JsonObject second = new JsonObject().put("c", new JsonArray().add(3)).put("b", "two").put("a", 1);
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertThat(first.deepClone()).isEqualTo(first);
+        assertThat(first.deepClone().keys()).containsExactly("a", "b", "c");
+        first.clear();
+        assertThat(first.isEmpty()).isTrue();
+        assertThat(first.put("d", 4).keys()).containsExactly("d");
+    }
+
     @Test
     public void shouldConvertFromBase64() {
         JsonObject source = new JsonObject()
@@ -4,16 +4,26 @@ package org.jsonbuddy;
 import org.assertj.core.data.Offset;
 import org.jsonbuddy.parse.JsonParseException;
 import org.jsonbuddy.parse.JsonParser;
+import org.jsonbuddy.parse.JsonTokenizer;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -168,6 +178,8 @@ public class JsonParserTest {
     private void validateException(String json, String errormessage) {
         assertThatThrownBy(() -> JsonParser.parse(fixQuotes(json)))
             .hasMessage(errormessage);
+        assertThatThrownBy(() -> JsonParser.parse(fixQuotes(json).getBytes(StandardCharsets.UTF_8)))
+            .hasMessage(errormessage);
     }
 
     @Test
@@ -272,6 +284,195 @@ public class JsonParserTest {
         assertThat(parsed.requiredDouble("numval")).isCloseTo(0d, Offset.offset(0.00001d));
     }
 
+    @Test
+    public void shouldParseNumbersLikeJava() {
+        String[] longs = { "0", "-0", "7", "-42", "123456789012345678", "-999999999999999999",
+                "9223372036854775807", "-9223372036854775808", "000123" };
+        for (String value : longs) {
+            assertThat(parseBothWays(value)).as(value).isEqualTo(Long.parseLong(value));
+        }
+        String[] doubles = { "0.0", "-0.0", "1e5", "1E5", "1.5E-3", "-2.5e+3", "0.1", "0.3", "3.14159",
+                "9007199254740993.0", "1e22", "1e23", "1e-22", "1e-23", "4.9e-324", "1.79769313486e308",
+                "123456789.123456789", "0.00000000000000001", "1e400", "2.22507385850e-308" };
+        for (String value : doubles) {
+            assertThat(parseBothWays(value)).as(value).isEqualTo(Double.parseDouble(value));
+        }
+        Random random = new java.util.Random(17);
+        for (int i = 0; i < 10000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            String text = i % 2 == 0 ? Double.toString(value) : String.format("%." + (1 + i % 17) + "f", random.nextDouble() * 1000);
+            if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+                Number expected = text.length() > 20 ? new BigDecimal(text) : (Number) Double.parseDouble(text);
+                assertThat(parseBothWays(text)).as(text).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void shouldParseIntegersBeyondLongAsBigDecimal() {
+        assertThat(parseBothWays("9223372036854775808")).isEqualTo(new BigDecimal("9223372036854775808"));
+        assertThat(parseBothWays("-12345678901234567890")).isEqualTo(new BigDecimal("-12345678901234567890"));
+        assertThat(parseBothWays("123456789012345678901234567890")).isEqualTo(new BigDecimal("123456789012345678901234567890"));
+    }
+
+    @Test
+    public void shouldRejectMalformedNumbers() {
+        for (String value : new String[] { "1-2", "--1", "1.2.3", "1e", "-", "1ee5" }) {
+            assertThatThrownBy(() -> JsonParser.parse(value)).as(value).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> JsonParser.parse(value.getBytes(StandardCharsets.UTF_8))).as(value).isInstanceOf(NumberFormatException.class);
+        }
+    }
+
+    private static Object parseBothWays(String value) {
+        Object fromString = ((JsonArray) JsonParser.parse("[" + value + "]")).requiredNumber(0);
+        Object fromBytes = ((JsonArray) JsonParser.parse(("[" + value + "]").getBytes(StandardCharsets.UTF_8))).requiredNumber(0);
+        assertThat(fromBytes).as(value).isEqualTo(fromString);
+        return fromString;
+    }
+
+    @Test
+    public void shouldReuseKeyInstances() throws IOException {
+        String json = fixQuotes("[{'customerId':1,'status':'active'},{'customerId':2,'status':'active'}]");
+        for (JsonTokenizer tokenizer : Arrays.asList(JsonTokenizer.of(json), JsonTokenizer.of(json.getBytes(StandardCharsets.UTF_8), 0, json.length()))) {
+            JsonArray array = (JsonArray) JsonParser.parse(tokenizer);
+            String firstKey = array.requiredObject(0).keys().iterator().next();
+            String secondKey = array.requiredObject(1).keys().iterator().next();
+            assertThat(firstKey).isEqualTo("customerId").isSameAs(secondKey);
+            assertThat(array.requiredObject(0).requiredString("status"))
+                    .isEqualTo(array.requiredObject(1).requiredString("status"))
+                    .isNotSameAs(array.requiredObject(1).requiredString("status"));
+        }
+    }
+
+    @Test
+    public void shouldInternShortValuesWhenConfigured() throws IOException {
+        String json = fixQuotes("[{'status':'active','id':'a-long-identifier'},{'status':'active','id':'a-long-identifier'}]");
+        for (JsonTokenizer tokenizer : Arrays.asList(JsonTokenizer.of(json), JsonTokenizer.of(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))))) {
+            JsonArray array = (JsonArray) JsonParser.parse(tokenizer.internValues(8).internKeys(0));
+            assertThat(array.requiredObject(0).requiredString("status"))
+                    .isSameAs(array.requiredObject(1).requiredString("status"));
+            assertThat(array.requiredObject(0).requiredString("id"))
+                    .isEqualTo(array.requiredObject(1).requiredString("id"))
+                    .isNotSameAs(array.requiredObject(1).requiredString("id"));
+            assertThat(array.requiredObject(0).keys().iterator().next())
+                    .isNotSameAs(array.requiredObject(1).keys().iterator().next());
+        }
+    }
+
+    @Test
+    public void shouldParseManyDistinctKeys() {
+        JsonObject expected = new JsonObject();
+        for (int i = 0; i < 5000; i++) {
+            expected.put("key" + i, i);
+        }
+        assertThat(JsonParser.parse(expected.toJson())).isEqualTo(expected);
+        assertThat(JsonParser.parse(expected.toJson().getBytes(StandardCharsets.UTF_8))).isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldRejectInputNestedDeeperThanMaxDepth() throws IOException {
+        assertThat(JsonParser.parse(nested(JsonTokenizer.DEFAULT_MAX_DEPTH))).isInstanceOf(JsonArray.class);
+        assertThatThrownBy(() -> JsonParser.parse(nested(JsonTokenizer.DEFAULT_MAX_DEPTH + 1)))
+                .isInstanceOf(JsonParseException.class)
+                .hasMessage("Maximum nesting depth of " + JsonTokenizer.DEFAULT_MAX_DEPTH + " exceeded");
+        assertThatThrownBy(() -> JsonParser.parse(JsonTokenizer.of(nested(3)).maxDepth(2)))
+                .isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    public void shouldParseAndWriteDeeplyNestedInput() throws IOException {
+        String json = nested(100_000);
+        JsonNode node = JsonParser.parse(JsonTokenizer.of(json).maxDepth(Integer.MAX_VALUE));
+        assertThat(node.toJson()).isEqualTo(json);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        node.toJson(output);
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(json);
+    }
+
+    private static String nested(int depth) {
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            json.append(i % 2 == 0 ? "[" : "{\"a\":");
+        }
+        json.append("1");
+        for (int i = depth - 1; i >= 0; i--) {
+            json.append(i % 2 == 0 ? "]" : "}");
+        }
+        return json.toString();
+    }
+
+    @Test
+    public void shouldParseValuesSpanningReadBoundaries() throws IOException {
+        StringBuilder longText = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            longText.append((char)('a' + i % 26));
+        }
+        JsonObject expected = new JsonObject()
+                .put("text", longText.toString())
+                .put("escaped", "quote:\" newline\n" + longText + "\u22A1 æøå \uD83D\uDE00")
+                .put("numbers", new JsonArray().add(123456789012L).add(-2.5e-3).add(0))
+                .put("flags", new JsonArray().add(true).add(false).add(null));
+
+        Reader trickleReader = new Reader() {
+            private final StringReader reader = new StringReader(expected.toJson());
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return reader.read(cbuf, off, Math.min(len, 7));
+            }
+            @Override
+            public void close() {
+            }
+        };
+        assertThat(JsonParser.parseNode(trickleReader)).isEqualTo(expected);
+        assertThat(JsonParser.parse(new ByteArrayInputStream(expected.toJson().getBytes(StandardCharsets.UTF_8)))).isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldParseUtf8Bytes() {
+        JsonObject expected = new JsonObject()
+                .put("ascii", "Darth Vader")
+                .put("nonAscii", "Blåbærsyltetøy \u22A1 \uD83D\uDE00")
+                .put("escaped", "tab\tæ\\")
+                .put("number", -2.5e3)
+                .put("list", new JsonArray().add(1).add(true).add(null));
+        byte[] bytes = expected.toJson().getBytes(StandardCharsets.UTF_8);
+
+        assertThat(JsonParser.parse(bytes)).isEqualTo(expected);
+        byte[] padded = new byte[bytes.length + 10];
+        System.arraycopy(bytes, 0, padded, 5, bytes.length);
+        assertThat(JsonParser.parse(padded, 5, bytes.length)).isEqualTo(expected);
+
+        ByteBuffer heapBuffer = ByteBuffer.wrap(padded, 5, bytes.length);
+        assertThat(JsonParser.parse(heapBuffer)).isEqualTo(expected);
+        assertThat(heapBuffer.position()).isEqualTo(5);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).flip();
+        assertThat(JsonParser.parse(directBuffer)).isEqualTo(expected);
+        assertThat(JsonParser.parse(directBuffer.asReadOnlyBuffer())).isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldParseFile() throws IOException {
+        JsonArray expected = new JsonArray();
+        for (int i = 0; i < 5000; i++) {
+            expected.add(new JsonObject().put("id", i).put("name", "Name æøå " + i));
+        }
+        Path file = Files.createTempFile("jsonbuddy", ".json");
+        try {
+            Files.write(file, expected.toJson().getBytes(StandardCharsets.UTF_8));
+            assertThat(JsonParser.parse(file)).isEqualTo(expected);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void shouldReplaceMalformedUtf8() {
+        byte[] bytes = {'[', '"', 'a', (byte) 0xE2, '"', ',', '"', (byte) 0xC3, (byte) 0xA6, '\\', 'n', '"', ']'};
+        assertThat(JsonParser.parse(bytes)).isEqualTo(new JsonArray().add("a\uFFFD").add("æ\n"));
+    }
+
     private static String fixQuotes(String content) {
         return content.replace("'", "\"");
     }
@@ -24,6 +24,43 @@ public class JsonValueTest {
             .isNotEqualTo(123.0);
     }
 
+    @Test
+    public void shouldEqualBoxedNumbersForPrimitiveNumbers() {
+        assertThat(JsonNumber.of(42L))
+            .isEqualTo(new JsonNumber(42L))
+            .hasSameHashCodeAs(new JsonNumber(42L))
+            .isNotEqualTo(new JsonNumber(42))
+            .isNotEqualTo(JsonNumber.of(42.0));
+        assertThat(new JsonNumber(42L)).isEqualTo(JsonNumber.of(42L));
+        assertThat(JsonNumber.of(2.5))
+            .isEqualTo(new JsonNumber(2.5))
+            .hasSameHashCodeAs(new JsonNumber(2.5))
+            .isNotEqualTo(JsonNumber.of(-2.5));
+        assertThat(new JsonNumber(2.5)).isEqualTo(JsonNumber.of(2.5));
+        assertThat(JsonNumber.of(Double.NaN)).isEqualTo(new JsonNumber(Double.NaN));
+
+        assertThat(JsonNumber.of(-17L).toJson()).isEqualTo(new JsonNumber(-17L).toJson());
+        assertThat(JsonNumber.of(1e-7).toJson()).isEqualTo(new JsonNumber(1e-7).toJson());
+        assertThat(JsonNumber.of(2.9).longValue()).isEqualTo(2L);
+        assertThat(JsonNumber.of(7L).javaObjectValue()).isEqualTo(7L);
+    }
+
+    @Test
+    public void shouldShareImmutableValues() {
+        JsonArray array = JsonArray.parse("[null, true, false, 7, -128, 1024, 1025, null, true, false, 7]");
+        assertThat(array.get(0, JsonNode.class)).isSameAs(JsonNull.INSTANCE).isSameAs(array.get(7, JsonNode.class));
+        assertThat(array.get(1, JsonNode.class)).isSameAs(JsonBoolean.TRUE).isSameAs(array.get(8, JsonNode.class));
+        assertThat(array.get(2, JsonNode.class)).isSameAs(JsonBoolean.FALSE).isSameAs(array.get(9, JsonNode.class));
+        assertThat(array.get(3, JsonNode.class)).isSameAs(array.get(10, JsonNode.class)).isSameAs(JsonNumber.of(7));
+        assertThat(array.get(4, JsonNode.class)).isSameAs(JsonNumber.of(-128L));
+        assertThat(array.get(5, JsonNode.class)).isSameAs(JsonNumber.of(Long.valueOf(1024)));
+        assertThat(array.get(6, JsonNode.class)).isEqualTo(JsonNumber.of(1025)).isNotSameAs(JsonNumber.of(1025));
+
+        assertThat(JsonFactory.jsonNode(null)).isSameAs(JsonNull.INSTANCE).isEqualTo(new JsonNull());
+        assertThat(JsonFactory.jsonBoolean(true)).isSameAs(JsonBoolean.TRUE).isEqualTo(new JsonBoolean(true));
+        assertThat(JsonFactory.jsonFalse()).isSameAs(JsonBoolean.of(false));
+    }
+
     @Test
     public void shouldSupport() {
         JsonBoolean b = new JsonBoolean(false);
@@ -1,5 +1,6 @@
 package org.jsonbuddy;
 
+import org.jsonbuddy.parse.JsonParser;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,6 +26,21 @@ public class ToJsonTest {
         assertThat(jsonObject.toJson()).isEqualTo(fixQuotes("{'atext':'o\\\"ne\\ntwo'}"));
     }
 
+    @Test
+    public void shouldEscapeAllControlCharacters() {
+        JsonString jsonString = new JsonString("nul\u0000 bell\u0007 vt\u000B esc\u001B del\u007F \\ \b\f\r\t æ");
+        assertThat(jsonString.toJson())
+                .isEqualTo("\"nul\\u0000 bell\\u0007 vt\\u000B esc\\u001B del\u007F \\\\ \\b\\f\\r\\t æ\"");
+        assertThat(JsonParser.parse(jsonString.toJson())).isEqualTo(jsonString);
+    }
+
+    @Test
+    public void shouldEscapeKeys() {
+        JsonObject jsonObject = new JsonObject().put("say \"hi\"\n", "hi");
+        assertThat(jsonObject.toJson()).isEqualTo(fixQuotes("{'say \\'hi\\'\\n':'hi'}"));
+        assertThat(JsonObject.parse(jsonObject.toJson())).isEqualTo(jsonObject);
+    }
+
     @Test
     public void shouldIndentArraysInsideObjects() {
        JsonObject jsonObject = new JsonObject()
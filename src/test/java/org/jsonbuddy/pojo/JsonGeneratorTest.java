@@ -6,10 +6,12 @@ import org.jsonbuddy.JsonNode;
 import org.jsonbuddy.JsonNull;
 import org.jsonbuddy.JsonNumber;
 import org.jsonbuddy.JsonObject;
+import org.jsonbuddy.JsonString;
 import org.jsonbuddy.pojo.testclasses.ClassImplementingInterface;
 import org.jsonbuddy.pojo.testclasses.ClassWithBigNumbers;
 import org.jsonbuddy.pojo.testclasses.ClassWithDifferentTypes;
 import org.jsonbuddy.pojo.testclasses.ClassWithEnum;
+import org.jsonbuddy.pojo.testclasses.ClassWithFieldAndGetter;
 import org.jsonbuddy.pojo.testclasses.ClassWithFieldInterface;
 import org.jsonbuddy.pojo.testclasses.ClassWithGetterInterface;
 import org.jsonbuddy.pojo.testclasses.ClassWithInterfaceListAndMapMethods;
@@ -18,6 +20,7 @@ import org.jsonbuddy.pojo.testclasses.ClassWithMap;
 import org.jsonbuddy.pojo.testclasses.ClassWithStaticFieldsFromInterface;
 import org.jsonbuddy.pojo.testclasses.ClassWithSuperclass;
 import org.jsonbuddy.pojo.testclasses.ClassWithTime;
+import org.jsonbuddy.pojo.testclasses.ClassWithPrimitiveValues;
 import org.jsonbuddy.pojo.testclasses.CombinedClassWithSetter;
 import org.jsonbuddy.pojo.testclasses.InterfaceWithMethod;
 import org.jsonbuddy.pojo.testclasses.JsonGeneratorOverrides;
@@ -25,11 +28,19 @@ import org.jsonbuddy.pojo.testclasses.SimpleWithName;
 import org.jsonbuddy.pojo.testclasses.SimpleWithNameGetter;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.chrono.ChronoLocalDate;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAdjuster;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -37,6 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -108,6 +120,22 @@ public class JsonGeneratorTest {
         assertThat(array.requiredArray(1).strings()).containsExactly("Anakin");
     }
 
+    @Test
+    public void shouldGenerateWithCompiledAccessors() throws Exception {
+        CombinedClassWithSetter combinedClassWithSetter = new CombinedClassWithSetter();
+        combinedClassWithSetter.setPerson(new SimpleWithName("Darth Vader"));
+        combinedClassWithSetter.setOccupation("Dark Lord");
+        ClassWithPrimitiveValues primitives = new ClassWithPrimitiveValues();
+        primitives.intValue = 42;
+        primitives.boolValue = true;
+
+        JsonGenerator generator = new JsonGenerator().withCompiledAccessors();
+        assertThat(generator.generateNode(combinedClassWithSetter)).isEqualTo(JsonGenerator.generate(combinedClassWithSetter));
+        assertThat(generator.generateNode(primitives)).isEqualTo(JsonGenerator.generate(primitives));
+        assertThat(new PropertyAccessors(true).methodGetter(CombinedClassWithSetter.class.getMethod("getOccupation")).get(combinedClassWithSetter))
+                .isEqualTo("Dark Lord");
+    }
+
     @Test
     public void shouldHandleClassWithGetter() {
         CombinedClassWithSetter combinedClassWithSetter = new CombinedClassWithSetter();
@@ -361,6 +389,115 @@ public class JsonGeneratorTest {
                 .isEqualTo(new JsonObject().put("full_name", "Darth Vader"));
     }
     
+    @Test
+    public void shouldWriteSameJsonAsGenerate() throws IOException {
+        CombinedClassWithSetter combined = new CombinedClassWithSetter();
+        combined.setPerson(new SimpleWithName("Darth Vader"));
+        combined.setOccupation("Dark Lord");
+        Map<String, Object> map = new HashMap<>();
+        map.put("list", Arrays.asList(1, 2.5, "three", null));
+        map.put("array", new String[] { "Luke", "Leia" });
+        map.put("overrides", new JsonGeneratorOverrides());
+        map.put("optional", Optional.of(new SimpleWithName("Anakin")));
+        map.put("node", new JsonObject().put("key", "value"));
+
+        for (Object o : Arrays.asList(combined, new ClassWithEnum(), new ClassWithPrimitiveValues(), map, null, "string")) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            new JsonGenerator().write(o, output);
+            assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(JsonGenerator.generate(o).toJson());
+        }
+    }
+
+    @Test
+    public void shouldWriteSameJsonAsGenerateForFieldAndGetterWithSameName() throws IOException {
+        ClassWithFieldAndGetter object = new ClassWithFieldAndGetter();
+        StringWriter writer = new StringWriter();
+        new JsonGenerator().write(object, writer);
+        assertThat(writer.toString())
+                .isEqualTo(JsonGenerator.generate(object).toJson())
+                .isEqualTo("{\"name\":\"getter\",\"occupation\":\"Jedi\"}");
+    }
+
+    @Test
+    public void shouldWriteWithNameTransformerAndConverters() throws IOException {
+        SimpleWithNameGetter object = new SimpleWithNameGetter();
+        object.setFullName("Darth Vader");
+        JsonGenerator generator = new JsonGenerator().withNameTransformer(JsonGenerator.UNDERSCORE_TRANSFORMER);
+        generator.addConverter(SimpleWithName.class, o -> new JsonString(o.name.toUpperCase()));
+
+        StringWriter writer = new StringWriter();
+        generator.write(Arrays.asList(object, new SimpleWithName("Luke")), writer);
+        assertThat(writer.toString()).isEqualTo("[{\"full_name\":\"Darth Vader\"},\"LUKE\"]");
+    }
+
+    @Test
+    public void shouldUseMostSpecificConverter() {
+        JsonGenerator generator = new JsonGenerator();
+        generator.addConverter(BigDecimal.class, o -> new JsonString(o.toPlainString()));
+        generator.addConverter(Number.class, o -> new JsonString("number " + o));
+        assertThat(generator.generateNode(new BigDecimal("1E+3"))).isEqualTo(new JsonString("1000"));
+        assertThat(generator.generateNode(42L)).isEqualTo(new JsonString("number 42"));
+
+        LocalDate date = LocalDate.of(2020, 2, 29);
+        generator.addConverter(TemporalAdjuster.class, o -> new JsonString("adjuster"));
+        assertThat(generator.generateNode(date)).isEqualTo(new JsonString("adjuster"));
+        generator.addConverter(Temporal.class, o -> new JsonString("temporal"));
+        assertThat(generator.generateNode(date)).isEqualTo(new JsonString("temporal"));
+        generator.addConverter(ChronoLocalDate.class, o -> new JsonString("date"));
+        generator.addConverter(TemporalAdjuster.class, o -> new JsonString("adjuster"));
+        assertThat(generator.generateNode(date)).isEqualTo(new JsonString("date"));
+    }
+
+    @Test
+    public void shouldGenerateFromSeveralThreadsWithSharedGenerator() {
+        List<Object> values = Arrays.asList("text", 42L, 7, (short) 3, new BigDecimal("1E+3"), BigInteger.TEN,
+                LocalDate.of(2020, 2, 29), OffsetDateTime.of(2020, 2, 29, 12, 0, 0, 0, ZoneOffset.UTC),
+                Thread.State.NEW, Optional.of("optional"), true, new SimpleWithName("Darth Vader"),
+                new CombinedClassWithSetter(), new ClassWithPrimitiveValues());
+        List<JsonNode> expected = IntStream.range(0, 2000)
+                .mapToObj(i -> configuredGenerator().generateNode(values.get(i % values.size())))
+                .collect(Collectors.toList());
+        for (int round = 0; round < 20; round++) {
+            JsonGenerator generator = configuredGenerator();
+            assertThat(IntStream.range(0, 2000).parallel()
+                    .mapToObj(i -> generator.generateNode(values.get(i % values.size())))
+                    .collect(Collectors.toList()))
+                    .isEqualTo(expected);
+        }
+    }
+
+    private static JsonGenerator configuredGenerator() {
+        JsonGenerator generator = new JsonGenerator().withNameTransformer(JsonGenerator.UNDERSCORE_TRANSFORMER);
+        generator.addConverter(BigDecimal.class, o -> new JsonString(o.toPlainString()));
+        return generator;
+    }
+
+    @Test
+    public void shouldNotShareNamesWithGeneratorsThatTransformNames() {
+        SimpleWithNameGetter object = new SimpleWithNameGetter();
+        object.setFullName("Darth Vader");
+        JsonGenerator upperCase = new JsonGenerator() {
+            @Override
+            protected String transformName(String name) {
+                return name.toUpperCase();
+            }
+        };
+        assertThat(upperCase.generateNode(object)).isEqualTo(new JsonObject().put("FULLNAME", "Darth Vader"));
+        assertThat(new JsonGenerator().generateNode(object)).isEqualTo(new JsonObject().put("fullName", "Darth Vader"));
+        assertThat(new JsonGenerator().withNameTransformer(JsonGenerator.UNDERSCORE_TRANSFORMER).generateNode(object))
+                .isEqualTo(new JsonObject().put("full_name", "Darth Vader"));
+        assertThat(new JsonGenerator().withCompiledAccessors().withNameTransformer(JsonGenerator.UNDERSCORE_TRANSFORMER).generateNode(object))
+                .isEqualTo(new JsonObject().put("full_name", "Darth Vader"));
+    }
+
+    @Test
+    public void shouldWriteStreams() throws IOException {
+        StringWriter writer = new StringWriter();
+        new JsonGenerator().write(Stream.iterate(0, i -> i + 1).limit(3).map(i -> new SimpleWithName("Clone " + i)), writer);
+        assertThat(writer.toString())
+                .isEqualTo("[{\"name\":\"Clone 0\"},{\"name\":\"Clone 1\"},{\"name\":\"Clone 2\"}]");
+    }
+
     @Test
     public void shouldMapPropertiesInSuperclass() {
         ClassWithSuperclass object = new ClassWithSuperclass();
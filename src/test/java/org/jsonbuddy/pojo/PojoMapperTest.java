@@ -7,6 +7,7 @@ import org.jsonbuddy.JsonNode;
 import org.jsonbuddy.JsonNull;
 import org.jsonbuddy.JsonObject;
 import org.jsonbuddy.JsonString;
+import org.jsonbuddy.parse.JsonParseException;
 import org.jsonbuddy.pojo.testclasses.ClassContainingAnnotated;
 import org.jsonbuddy.pojo.testclasses.ClassContainingOverriddenAsSetter;
 import org.jsonbuddy.pojo.testclasses.ClassWithAnnotation;
@@ -37,6 +38,7 @@ import org.jsonbuddy.pojo.testclasses.CombinedClass;
 import org.jsonbuddy.pojo.testclasses.CombinedClassWithAnnotation;
 import org.jsonbuddy.pojo.testclasses.CombinedClassWithSetter;
 import org.jsonbuddy.pojo.testclasses.EnumClass;
+import org.jsonbuddy.pojo.testclasses.InterfaceWithDefaultMethod;
 import org.jsonbuddy.pojo.testclasses.InterfaceWithEnum;
 import org.jsonbuddy.pojo.testclasses.InterfaceWithMethod;
 import org.jsonbuddy.pojo.testclasses.PojoMapperOverride;
@@ -44,6 +46,9 @@ import org.jsonbuddy.pojo.testclasses.SimpleWithName;
 import org.jsonbuddy.pojo.testclasses.SimpleWithNameGetter;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -53,18 +58,24 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.chrono.HijrahDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -221,6 +232,46 @@ public class PojoMapperTest {
                 .hasMessageContaining("noon tomorrow");
     }
 
+    @Test
+    public void shouldMapTemporalsLikeTheirParseMethods() {
+        List<String> instants = new ArrayList<>(Arrays.asList(
+                "0000-01-01T00:00:00Z", "9999-12-31T23:59:59.999999999Z", "2020-02-29T12:00:00.1Z",
+                "1969-12-31T23:59:59Z", "1970-01-01T00:00:00.000Z", "2016-12-31T23:59:60Z", "+10000-01-01T00:00:00Z",
+                "2021-02-29T00:00:00Z", "2020-13-01T00:00:00Z", "2020-01-01T24:00:00Z", "2020-01-01T00:00:00.Z",
+                "2020-01-01T00:00:00.1234567890Z", "2020-01-01T00:00:00+01:00", "2020-01-01 00:00:00Z", "2020-01-0xT00:00:00Z"));
+        List<String> dates = new ArrayList<>(Arrays.asList(
+                "0000-01-01", "9999-12-31", "2000-02-29", "2021-02-29", "1900-02-29", "2020-00-10", "2020-1-10", "20200101", "+12345-01-01"));
+        Random random = new Random(24);
+        for (int i = 0; i < 2000; i++) {
+            instants.add(Instant.ofEpochSecond(random.nextInt(Integer.MAX_VALUE) * (random.nextBoolean() ? 1L : -10L),
+                    random.nextInt(4) * 100_000_000 + random.nextInt(3) * 123_000).toString());
+            dates.add(LocalDate.ofEpochDay(random.nextInt(3_652_059) - 719_528).toString());
+        }
+
+        PojoMapper mapper = new PojoMapper();
+        for (String instant : instants) {
+            assertSameResult(() -> mapper.mapToPojo(new JsonString(instant), Instant.class), () -> Instant.parse(instant), instant);
+        }
+        for (String date : dates) {
+            assertSameResult(() -> mapper.mapToPojo(new JsonString(date), LocalDate.class), () -> LocalDate.parse(date), date);
+        }
+        assertThat(mapper.<YearMonth>mapToPojo(new JsonString("2020-02"), YearMonth.class)).isEqualTo(YearMonth.of(2020, 2));
+        assertThatThrownBy(() -> mapper.mapToPojo(new JsonString("1441-01-01"), HijrahDate.class))
+                .isInstanceOf(CanNotMapException.class)
+                .hasMessageContaining("Could not find java.time.chrono.HijrahDate::parse");
+    }
+
+    private static void assertSameResult(Supplier<Object> actual, Supplier<Object> expected, String input) {
+        Object expectedValue;
+        try {
+            expectedValue = expected.get();
+        } catch (RuntimeException e) {
+            assertThatThrownBy(actual::get).as(input).hasMessageContaining(e.getMessage());
+            return;
+        }
+        assertThat(actual.get()).as(input).isEqualTo(expectedValue);
+    }
+
     @Test
     public void shouldMapToPojoFromArray() {
         assertThat(PojoMapper.map(JsonFactory.jsonArray(), String.class)).isEmpty();
@@ -575,6 +626,118 @@ public class PojoMapperTest {
         assertThat(o.mapOfSetOfString.get("first")).containsOnly("4", "5", "6");
     }
 
+    @Test
+    public void shouldMapEnumsIgnoringCase() {
+        JsonObject jsonObject = new JsonObject().put("name", "Darth").put("enumNumber", "three");
+        InterfaceWithEnum interfaceWithEnum = PojoMapper.map(jsonObject, InterfaceWithEnum.class, new DynamicInterfaceMapper(), new EnumMapper(true));
+        assertThat(interfaceWithEnum.getEnumNumber()).isEqualTo(EnumClass.THREE);
+
+        assertThatThrownBy(() -> PojoMapper.map(jsonObject, InterfaceWithEnum.class, new DynamicInterfaceMapper(), new EnumMapper()).getEnumNumber())
+                .hasMessageContaining("No enum constant " + EnumClass.class.getCanonicalName() + ".three");
+    }
+
+    private enum Status {
+        ACTIVE {
+            @Override
+            public String toString() {
+                return "active";
+            }
+        },
+        CLOSED;
+    }
+
+    @Test
+    public void shouldMapEnumsByStringRepresentation() {
+        PojoMapper mapper = new PojoMapper();
+        assertThat(mapper.<Status>mapToPojo(new JsonString("active"), Status.class)).isEqualTo(Status.ACTIVE);
+        assertThat(mapper.<Status>mapToPojo(new JsonString("CLOSED"), Status.class)).isEqualTo(Status.CLOSED);
+        assertThatThrownBy(() -> mapper.mapToPojo(new JsonString("ACTIVE"), Status.class))
+                .isInstanceOf(CanNotMapException.class)
+                .hasMessage("Illegal value ACTIVE for Status. Valid options are [active, CLOSED]");
+        assertThat(JsonGenerator.generate(Arrays.asList(Status.ACTIVE, Status.CLOSED)))
+                .isEqualTo(new JsonArray().add("active").add("CLOSED"));
+    }
+
+    @Test
+    public void shouldCallSetterHooksOfSubclasses() {
+        List<String> calls = new ArrayList<>();
+        PojoMapper mapper = new PojoMapper() {
+            @Override
+            protected boolean tryToSetField(Class<?> clazz, Object instance, String fieldName, JsonNode value) throws Exception {
+                calls.add("field " + fieldName);
+                return !clazz.equals(SimpleWithNameGetter.class)
+                        && super.tryToSetField(clazz, instance, fieldName, new JsonString(value.stringValue().toUpperCase()));
+            }
+
+            @Override
+            protected boolean tryToSetProperty(Class<?> clazz, Object instance, String fieldName, JsonNode value) throws Exception {
+                calls.add("property " + fieldName);
+                return super.tryToSetProperty(clazz, instance, fieldName, value);
+            }
+        };
+        SimpleWithName simpleWithName = mapper.mapToPojo(new JsonObject().put("name", "Darth Vader"), SimpleWithName.class);
+        assertThat(simpleWithName.name).isEqualTo("DARTH VADER");
+        assertThat(calls).containsExactly("field name");
+
+        calls.clear();
+        SimpleWithNameGetter withGetter = mapper.mapToPojo(new JsonObject().put("full_name", "Darth Vader"), SimpleWithNameGetter.class);
+        assertThat(withGetter.getFullName()).isEqualTo("Darth Vader");
+        assertThat(calls).containsExactly("field fullName", "field full_name", "property fullName");
+    }
+
+    @OverrideMapper(using = SharedBuilder.class)
+    public static class SharedValue {
+        final int builderNumber;
+
+        SharedValue(int builderNumber) {
+            this.builderNumber = builderNumber;
+        }
+    }
+
+    public static class SharedBuilder implements JsonPojoBuilder<SharedValue> {
+        private static int instances;
+        private final int builderNumber = ++instances;
+
+        @Override
+        public SharedValue build(JsonNode jsonNode) {
+            return new SharedValue(builderNumber);
+        }
+    }
+
+    @OverrideMapper(using = CountingBuilder.class, stateful = true)
+    public static class CountedValue {
+        final int count;
+
+        CountedValue(int count) {
+            this.count = count;
+        }
+    }
+
+    public static class CountingBuilder implements JsonPojoBuilder<CountedValue> {
+        private int count;
+
+        @Override
+        public CountedValue build(JsonNode jsonNode) {
+            return new CountedValue(++count);
+        }
+    }
+
+    @Test
+    public void shouldReuseOverrideMapperBuilders() {
+        JsonArray values = new JsonArray().add(new JsonObject()).add(new JsonObject()).add(new JsonObject());
+        List<SharedValue> first = PojoMapper.map(values, SharedValue.class);
+        List<SharedValue> second = PojoMapper.map(values, SharedValue.class);
+        assertThat(Stream.concat(first.stream(), second.stream()).map(v -> v.builderNumber).distinct())
+                .hasSize(1);
+    }
+
+    @Test
+    public void shouldCreateStatefulOverrideMapperBuilderPerValue() {
+        JsonArray values = new JsonArray().add(new JsonObject()).add(new JsonObject());
+        List<CountedValue> result = PojoMapper.map(values, CountedValue.class);
+        assertThat(result).extracting(v -> v.count).containsExactly(1, 1);
+    }
+
     @Test
     public void shoulHandleBothInterfaceAndEnum() {
         JsonObject jsonObject = new JsonObject().put("name","Darth").put("enumNumber",EnumClass.THREE.toString());
@@ -583,6 +746,35 @@ public class PojoMapperTest {
         assertThat(interfaceWithEnum.getEnumNumber()).isEqualTo(EnumClass.THREE);
     }
 
+    @Test
+    public void shouldUseDefaultMethodsOfInterfacesForMissingKeys() {
+        JsonObject jsonObject = new JsonObject().put("name", "Darth");
+        InterfaceWithDefaultMethod result = PojoMapper.map(jsonObject, InterfaceWithDefaultMethod.class, new DynamicInterfaceMapper());
+        assertThat(result.getName()).isEqualTo("Darth");
+        assertThat(result.getGreeting()).isEqualTo("Hello Darth");
+        assertThat(InterfaceWithDefaultMethod.getDefaultName()).isEqualTo("Anonymous");
+
+        InterfaceWithDefaultMethod withGreeting = PojoMapper.map(new JsonObject().put("name", "Darth").put("greeting", "Hi"),
+                InterfaceWithDefaultMethod.class, new DynamicInterfaceMapper());
+        assertThat(withGreeting.getName()).isEqualTo("Darth");
+        assertThat(withGreeting.getGreeting()).isEqualTo("Hi");
+        assertThat(PojoMapper.map(new JsonObject().put("name", "Luke"), InterfaceWithDefaultMethod.class, new DynamicInterfaceMapper())
+                .getGreeting()).isEqualTo("Hello Luke");
+    }
+
+    @Test
+    public void shouldReuseGeneratedInterfaceClass() {
+        DynamicInterfaceMapper mapper = new DynamicInterfaceMapper();
+        InterfaceWithMethod first = PojoMapper.map(new JsonObject().put("publicvalue", "first"), InterfaceWithMethod.class, mapper);
+        InterfaceWithMethod second = PojoMapper.map(new JsonObject().put("publicvalue", "second"), InterfaceWithMethod.class, mapper);
+        InterfaceWithMethod absent = PojoMapper.map(new JsonObject(), InterfaceWithMethod.class, mapper);
+
+        assertThat(first.getPublicvalue()).isEqualTo("first");
+        assertThat(second.getPublicvalue()).isEqualTo("second");
+        assertThat(absent.getPublicvalue()).isNull();
+        assertThat(second.getClass()).isSameAs(first.getClass()).isSameAs(absent.getClass());
+    }
+
     @Test
     public void shouldMapJdkValueTypes() throws MalformedURLException, URISyntaxException, UnknownHostException {
         ClassWithJdkValueTypes o = new ClassWithJdkValueTypes();
@@ -643,6 +835,131 @@ public class PojoMapperTest {
                 .contains("Johannes", "Anders");
     }
 
+    @Test
+    public void shouldMapLazilyParsedArrayElements() {
+        String json = new JsonArray()
+                .add(new JsonObject().put("name", "Johannes"))
+                .add(new JsonObject().put("name", "Anders"))
+                .toJson();
+        try (Stream<SimpleWithName> result = PojoMapper.map(JsonArray.streamElements(new StringReader(json)), SimpleWithName.class)) {
+            assertThat(result)
+                    .extracting("name")
+                    .containsExactly("Johannes", "Anders");
+        }
+    }
+
+    @Test
+    public void shouldReuseMapperAcrossThreads() {
+        PojoMapper mapper = PojoMapper.create();
+        List<CombinedClassWithSetter> result = IntStream.range(0, 1000).parallel()
+                .mapToObj(i -> new JsonObject()
+                        .put("person", new JsonObject().put("name", "Darth " + i))
+                        .put("occupation", "Dark Lord")
+                        .put("unknown", i))
+                .map(o -> mapper.<CombinedClassWithSetter>mapToPojo(o, CombinedClassWithSetter.class))
+                .collect(Collectors.toList());
+        assertThat(result).hasSize(1000);
+        assertThat(result.get(999).getPerson().name).isEqualTo("Darth 999");
+        assertThat(result.get(999).getOccupation()).isEqualTo("Dark Lord");
+    }
+
+    @Test
+    public void shouldMapWithCompiledAccessors() throws Exception {
+        PojoMapper mapper = PojoMapper.create().withCompiledAccessors();
+        JsonObject primitives = new JsonObject().put("byteValue", 12).put("intValue", -1234)
+                .put("longValue", Long.MAX_VALUE).put("doubleValue", 3.14).put("boolValue", true);
+        ClassWithPrimitiveValues o = mapper.mapToPojo(primitives, ClassWithPrimitiveValues.class);
+        assertThat(o.byteValue).isEqualTo((byte) 12);
+        assertThat(o.intValue).isEqualTo(-1234);
+        assertThat(o.longValue).isEqualTo(Long.MAX_VALUE);
+        assertThat(o.doubleValue).isEqualTo(3.14);
+        assertThat(o.boolValue).isTrue();
+
+        JsonObject jsonObject = new JsonObject()
+                .put("person", new JsonObject().put("name", "Darth Vader"))
+                .put("occupation", "Dark Lord");
+        CombinedClassWithSetter combined = mapper.mapToPojo(jsonObject, CombinedClassWithSetter.class);
+        assertThat(combined.getPerson().name).isEqualTo("Darth Vader");
+        assertThat(combined.getOccupation()).isEqualTo("Dark Lord");
+
+        ClassWithPrimitiveValues target = new ClassWithPrimitiveValues();
+        new PropertyAccessors(true).fieldSetter(ClassWithPrimitiveValues.class.getField("shortValue")).set(target, (short) 7);
+        assertThat(target.shortValue).isEqualTo((short) 7);
+    }
+
+    @Test
+    public void shouldRejectNullForPrimitivesWithCompiledAccessors() {
+        JsonObject jsonObject = new JsonObject().put("intValue", new JsonNull());
+        assertThatThrownBy(() -> PojoMapper.create().mapToPojo(jsonObject, ClassWithPrimitiveValues.class))
+                .isInstanceOf(CanNotMapException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PojoMapper.create().withCompiledAccessors().mapToPojo(jsonObject, ClassWithPrimitiveValues.class))
+                .isInstanceOf(CanNotMapException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldReadDirectlyFromInput() throws IOException {
+        JsonObject json = new JsonObject()
+                .put("person", new JsonObject().put("name", "Darth Vader").put("unknown", new JsonArray().add(new JsonObject())))
+                .put("occupation", "Dark Lord")
+                .put("ignored", new JsonObject().put("nested", new JsonArray().add(1).add("two").add(new JsonObject().put("three", 3))))
+                .put("ignoredValue", 12);
+        byte[] bytes = json.toJson().getBytes(StandardCharsets.UTF_8);
+
+        CombinedClassWithSetter result = PojoMapper.read(bytes, CombinedClassWithSetter.class);
+        assertThat(result.getPerson().name).isEqualTo("Darth Vader");
+        assertThat(result.getOccupation()).isEqualTo("Dark Lord");
+        assertThat(PojoMapper.read(new ByteArrayInputStream(bytes), CombinedClassWithSetter.class))
+                .usingRecursiveComparison().isEqualTo(result);
+        assertThat(PojoMapper.read(new StringReader(json.toJson()), CombinedClassWithSetter.class))
+                .usingRecursiveComparison().isEqualTo(result);
+        assertThat(PojoMapper.read(new byte[0], CombinedClassWithSetter.class)).isNull();
+    }
+
+    @Test
+    public void shouldReadSameValuesAsMap() {
+        ClassWithPrimitiveValues primitives = new ClassWithPrimitiveValues();
+        primitives.byteValue = 12;
+        primitives.longValue = Long.MIN_VALUE;
+        primitives.doubleValue = 2.5;
+        primitives.boolValue = true;
+        ClassWithTime time = new ClassWithTime();
+        time.setTime(Instant.now());
+        Map<String, SimpleWithName> names = new HashMap<>();
+        names.put("vader", new SimpleWithName("Darth Vader"));
+
+        for (Object o : Arrays.asList(primitives, time, new ClassWithEnum(),
+                new ClassWithList("Darth Vader", Arrays.asList("Luke", "Leia")),
+                new ClassWithMap(Collections.singletonMap("title", "Dark Lord")))) {
+            byte[] bytes = JsonGenerator.generate(o).toJson().getBytes(StandardCharsets.UTF_8);
+            assertThat(PojoMapper.read(bytes, o.getClass())).usingRecursiveComparison().isEqualTo(o);
+        }
+
+        JsonObject embeddedMap = new JsonObject().put("names", JsonGenerator.generate(names));
+        assertThat(PojoMapper.read(embeddedMap.toJson().getBytes(StandardCharsets.UTF_8), ClassWithEmbeddedMap.class).names)
+                .usingRecursiveComparison().isEqualTo(names);
+        JsonObject optional = new JsonObject().put("optStr", "value");
+        assertThat(PojoMapper.read(optional.toJson().getBytes(StandardCharsets.UTF_8), ClassWithOptional.class).optStr)
+                .contains("value");
+    }
+
+    @Test
+    public void shouldReadWithMappingRules() {
+        byte[] bytes = "{\"name\":\"Darth\",\"enumNumber\":\"THREE\"}".getBytes(StandardCharsets.UTF_8);
+        InterfaceWithEnum result = PojoMapper.read(bytes, InterfaceWithEnum.class, new DynamicInterfaceMapper(), new EnumMapper());
+        assertThat(result.getName()).isEqualTo("Darth");
+        assertThat(result.getEnumNumber()).isEqualTo(EnumClass.THREE);
+    }
+
+    @Test
+    public void shouldReportErrorsWhenReading() {
+        assertThatThrownBy(() -> PojoMapper.read("{\"intValue\":\"abc\"}".getBytes(), ClassWithPrimitiveValues.class))
+                .isInstanceOf(CanNotMapException.class);
+        assertThatThrownBy(() -> PojoMapper.read("{\"intValue\" 1}".getBytes(), ClassWithPrimitiveValues.class))
+                .isInstanceOf(JsonParseException.class);
+    }
+
     @Test
     public void shouldHandleMapOfObjects() throws NoSuchMethodException {
         JsonNode list = new JsonObject()
@@ -0,0 +1,10 @@
+package org.jsonbuddy.pojo.testclasses;
+
+public class ClassWithFieldAndGetter {
+    public final String name = "field";
+    public final String occupation = "Jedi";
+
+    public String getName() {
+        return "getter";
+    }
+}
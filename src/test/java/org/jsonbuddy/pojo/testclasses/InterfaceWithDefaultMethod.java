@@ -0,0 +1,13 @@
+package org.jsonbuddy.pojo.testclasses;
+
+public interface InterfaceWithDefaultMethod {
+    String getName();
+
+    default String getGreeting() {
+        return "Hello " + getName();
+    }
+
+    static String getDefaultName() {
+        return "Anonymous";
+    }
+}
@@ -0,0 +1,129 @@
+package org.jsonbuddy.stream;
+
+import org.jsonbuddy.JsonArray;
+import org.jsonbuddy.JsonConversionException;
+import org.jsonbuddy.JsonObject;
+import org.jsonbuddy.parse.JsonParseException;
+import org.jsonbuddy.parse.JsonToken;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonReaderTest {
+
+    @Test
+    public void shouldReadTokens() throws IOException {
+        JsonReader reader = new JsonReader(fixQuotes("{'name':'Darth Vader','children':['Luke',{'name':'Leia'}],'age':45,'sith':true,'wife':null}"));
+        List<String> events = new ArrayList<>();
+        JsonToken token;
+        while ((token = reader.nextToken()) != null) {
+            events.add(token + "(" + reader.currentName() + ")");
+        }
+        assertThat(events).containsExactly(
+                "START_OBJECT(null)",
+                "FIELD_NAME(name)", "STRING(name)",
+                "FIELD_NAME(children)", "START_ARRAY(children)",
+                "STRING(null)", "START_OBJECT(null)", "FIELD_NAME(name)", "STRING(name)", "END_OBJECT(null)",
+                "END_ARRAY(children)",
+                "FIELD_NAME(age)", "NUMBER(age)",
+                "FIELD_NAME(sith)", "TRUE(sith)",
+                "FIELD_NAME(wife)", "NULL(wife)",
+                "END_OBJECT(null)");
+    }
+
+    @Test
+    public void shouldConvertValues() throws IOException {
+        JsonReader reader = new JsonReader(fixQuotes("[42, 3.5, '17', 'text', false, null]")
+                .getBytes(StandardCharsets.UTF_8));
+        assertThat(reader.nextToken()).isEqualTo(JsonToken.START_ARRAY);
+
+        assertThat(reader.nextToken()).isEqualTo(JsonToken.NUMBER);
+        assertThat(reader.getLong()).isEqualTo(42L);
+        assertThat(reader.getDouble()).isEqualTo(42.0);
+        assertThat(reader.getString()).isEqualTo("42");
+
+        reader.nextToken();
+        assertThat(reader.getDouble()).isEqualTo(3.5);
+        assertThat(reader.getLong()).isEqualTo(3L);
+
+        reader.nextToken();
+        assertThat(reader.getLong()).isEqualTo(17L);
+
+        reader.nextToken();
+        assertThat(reader.getString()).isEqualTo("text");
+        assertThatThrownBy(reader::getLong).isInstanceOf(JsonConversionException.class);
+
+        reader.nextToken();
+        assertThat(reader.getBoolean()).isFalse();
+
+        assertThat(reader.nextToken()).isEqualTo(JsonToken.NULL);
+        assertThat(reader.getString()).isNull();
+
+        assertThat(reader.nextToken()).isEqualTo(JsonToken.END_ARRAY);
+        assertThat(reader.nextToken()).isNull();
+    }
+
+    @Test
+    public void shouldSkipChildren() throws IOException {
+        JsonReader reader = new JsonReader(new StringReader(fixQuotes(
+                "{'skipped':{'deep':[1,{'a':'\\\\'}],'b':'x'},'wanted':'value'}")));
+        reader.nextToken();
+        assertThat(reader.nextToken()).isEqualTo(JsonToken.FIELD_NAME);
+        assertThat(reader.nextToken()).isEqualTo(JsonToken.START_OBJECT);
+        reader.skipChildren();
+        assertThat(reader.currentToken()).isEqualTo(JsonToken.END_OBJECT);
+        assertThat(reader.currentName()).isEqualTo("skipped");
+
+        assertThat(reader.nextToken()).isEqualTo(JsonToken.FIELD_NAME);
+        assertThat(reader.currentName()).isEqualTo("wanted");
+        reader.nextToken();
+        assertThat(reader.getString()).isEqualTo("value");
+        assertThat(reader.nextToken()).isEqualTo(JsonToken.END_OBJECT);
+    }
+
+    @Test
+    public void shouldReadSubtrees() throws IOException {
+        JsonObject first = new JsonObject().put("id", 1).put("lines", new JsonArray().add("a"));
+        JsonObject second = new JsonObject().put("id", 2);
+        JsonObject document = new JsonObject()
+                .put("count", 2)
+                .put("orders", new JsonArray().add(first).add(second));
+
+        JsonReader reader = new JsonReader(document.toJson());
+        reader.nextToken();
+        reader.nextToken();
+        assertThat(reader.readNode()).isEqualTo(document.requiredValue("count"));
+        reader.nextToken();
+        assertThat(reader.nextToken()).isEqualTo(JsonToken.START_ARRAY);
+        assertThat(reader.nextToken()).isEqualTo(JsonToken.START_OBJECT);
+        assertThat(reader.readNode()).isEqualTo(first);
+        assertThat(reader.currentToken()).isEqualTo(JsonToken.END_OBJECT);
+        assertThat(reader.nextToken()).isEqualTo(JsonToken.START_OBJECT);
+        assertThat(reader.readNode()).isEqualTo(second);
+        assertThat(reader.nextToken()).isEqualTo(JsonToken.END_ARRAY);
+        assertThat(reader.currentName()).isEqualTo("orders");
+
+        assertThat(new JsonReader(document.toJson()).readNode()).isEqualTo(document);
+    }
+
+    @Test
+    public void shouldReportSyntaxErrors() throws IOException {
+        JsonReader reader = new JsonReader(fixQuotes("{'name' 'Darth'}"));
+        reader.nextToken();
+        reader.nextToken();
+        assertThatThrownBy(reader::nextToken)
+                .isInstanceOf(JsonParseException.class)
+                .hasMessage("Expected value for objectkey name");
+    }
+
+    private static String fixQuotes(String content) {
+        return content.replace("'", "\"");
+    }
+}
@@ -0,0 +1,170 @@
+package org.jsonbuddy.stream;
+
+import org.jsonbuddy.JsonArray;
+import org.jsonbuddy.JsonNode;
+import org.jsonbuddy.JsonNull;
+import org.jsonbuddy.JsonObject;
+import org.jsonbuddy.pojo.JsonGenerator;
+import org.jsonbuddy.pojo.testclasses.CombinedClass;
+import org.jsonbuddy.pojo.testclasses.SimpleWithName;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonWriterTest {
+
+    @Test
+    public void shouldWriteStructure() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (JsonWriter writer = new JsonWriter(output)) {
+            writer.beginObject()
+                    .name("name").value("Darth Vader")
+                    .name("children").beginArray().value("Luke").value("Leia").endArray()
+                    .name("age").value(45)
+                    .name("height").value(2.02)
+                    .name("sith").value(true)
+                    .name("wife").value((String) null)
+                    .name("empty").beginObject().endObject()
+                    .endObject();
+        }
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(fixQuotes(
+                "{'name':'Darth Vader','children':['Luke','Leia'],'age':45,'height':2.02,'sith':true,'wife':null,'empty':{}}"));
+    }
+
+    @Test
+    public void shouldWritePreparedNames() throws IOException {
+        StringBuilder longName = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            longName.append((char) ('a' + i % 26));
+        }
+        SerializedName[] names = {
+                SerializedName.of("name"), SerializedName.of("quote \" æøå 😀"), SerializedName.of(longName.toString())
+        };
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter bytesWriter = new JsonWriter(output); JsonWriter charsWriter = new JsonWriter(stringWriter)) {
+            for (JsonWriter writer : new JsonWriter[] { bytesWriter, charsWriter }) {
+                writer.beginObject();
+                for (SerializedName name : names) {
+                    writer.name(name).value(1);
+                }
+                writer.endObject();
+            }
+        }
+        JsonObject expected = new JsonObject();
+        for (SerializedName name : names) {
+            expected.put(name.getName(), 1);
+        }
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(expected.toJson());
+        assertThat(stringWriter.toString()).isEqualTo(expected.toJson());
+    }
+
+    @Test
+    public void shouldWriteSameOutputAsToJson() throws IOException {
+        JsonObject jsonObject = new JsonObject()
+                .put("text", "quote \" backslash \\ newline \n tab \t vt \u000B")
+                .put("unicode", "æøå ⊡ 😀")
+                .put("numbers", new JsonArray().add(0).add(-17).add(Long.MAX_VALUE).add(Long.MIN_VALUE)
+                        .add(3.14).add(new BigDecimal("1234567890123456789012.5")))
+                .put("nested", new JsonArray().add(new JsonObject()).add(new JsonArray()).add(new JsonNull()).add(false));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        jsonObject.toJson(output);
+        assertThat(output.toByteArray()).isEqualTo(jsonObject.toJson().getBytes(StandardCharsets.UTF_8));
+
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(stringWriter)) {
+            writer.value(jsonObject);
+        }
+        assertThat(stringWriter.toString()).isEqualTo(jsonObject.toJson());
+    }
+
+    @Test
+    public void shouldWriteOutputLargerThanBuffer() throws IOException {
+        JsonArray array = new JsonArray();
+        StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            array.add(new JsonObject().put("id", i).put("name", "Name ⊡ " + i));
+            longString.append("æ\n");
+        }
+        array.add(longString.toString());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        array.toJson(output);
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(array.toJson());
+    }
+
+    @Test
+    public void shouldWriteNumbersLongerThanBuffer() throws IOException {
+        StringBuilder digits = new StringBuilder("1.");
+        for (int i = 0; i < 20000; i++) {
+            digits.append((char) ('0' + i % 10));
+        }
+        JsonArray array = new JsonArray().add("x").add(new BigDecimal(digits.toString()));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        array.toJson(output);
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(array.toJson());
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(stringWriter)) {
+            writer.beginArray().value("x").value(new BigDecimal(digits.toString())).endArray();
+        }
+        assertThat(stringWriter.toString()).isEqualTo(array.toJson());
+    }
+
+    @Test
+    public void shouldWriteNodesThatOnlyImplementPrintWriterOutput() throws IOException {
+        JsonNode custom = new JsonNode() {
+            @Override
+            public void toJson(PrintWriter printWriter, String currentIntentation, String indentationAmount) {
+                printWriter.append("{\"name\":\"æøå\"}");
+            }
+
+            @Override
+            public JsonNode deepClone() {
+                return this;
+            }
+        };
+        JsonArray array = new JsonArray().add(custom).add(custom);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        array.toJson(output);
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo("[{\"name\":\"æøå\"},{\"name\":\"æøå\"}]");
+    }
+
+    @Test
+    public void shouldWriteGeneratedObjects() throws IOException {
+        CombinedClass combinedClass = new CombinedClass(new SimpleWithName("Darth Vader"), "Dark Lord");
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(stringWriter)) {
+            new JsonGenerator().write(combinedClass, writer);
+        }
+        assertThat(stringWriter.toString()).isEqualTo(JsonGenerator.generate(combinedClass).toJson());
+    }
+
+    @Test
+    public void shouldRejectOutOfOrderCalls() throws IOException {
+        JsonWriter writer = new JsonWriter(new StringWriter());
+        assertThatThrownBy(writer::endObject).isInstanceOf(IllegalStateException.class);
+        writer.beginObject();
+        assertThatThrownBy(() -> writer.value("no name")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(writer::endArray).isInstanceOf(IllegalStateException.class);
+        writer.name("key");
+        assertThatThrownBy(() -> writer.name("other")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(writer::endObject).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String fixQuotes(String content) {
+        return content.replace("'", "\"");
+    }
+}
@@ -0,0 +1,133 @@
+package org.jsonbuddy.stream;
+
+import org.jsonbuddy.JsonArray;
+import org.jsonbuddy.JsonNode;
+import org.jsonbuddy.JsonObject;
+import org.jsonbuddy.JsonString;
+import org.jsonbuddy.parse.JsonParseException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class NdJsonTest {
+
+    @Test
+    public void shouldReadLines() {
+        byte[] input = "{\"name\":\"Darth\"}\r\n\n  [1,2]\n\"Jedi ⊡\"\n{\"name\":\"Luke\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        List<JsonNode> expected = Stream.of(
+                new JsonObject().put("name", "Darth"),
+                new JsonArray().add(1).add(2),
+                new JsonString("Jedi ⊡"),
+                new JsonObject().put("name", "Luke")
+        ).collect(Collectors.toList());
+
+        assertThat(NdJsonReader.stream(input)).containsExactlyElementsOf(expected);
+        assertThat(NdJsonReader.stream(new ByteArrayInputStream(input))).containsExactlyElementsOf(expected);
+        assertThat(NdJsonReader.stream(new byte[0])).isEmpty();
+    }
+
+    @Test
+    public void shouldReadLinesSpanningReadBoundaries() throws IOException {
+        byte[] input = lines(20000);
+        InputStream trickle = new ByteArrayInputStream(input) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1000));
+            }
+        };
+        assertThat(NdJsonReader.stream(trickle).map(o -> ((JsonObject) o).requiredLong("id")))
+                .containsExactlyElementsOf(IntStream.range(0, 20000).mapToObj(i -> (long) i).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldCloseInput() {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream input = new ByteArrayInputStream("{}\n{}\n".getBytes()) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        try (Stream<JsonNode> stream = NdJsonReader.stream(input)) {
+            assertThat(stream.count()).isEqualTo(2);
+        }
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void shouldParseInParallel() throws IOException {
+        byte[] input = lines(20000);
+        List<Long> expectedIds = IntStream.range(0, 20000).mapToObj(i -> (long) i).collect(Collectors.toList());
+
+        assertThat(NdJsonReader.parallelStream(input, true).map(o -> ((JsonObject) o).requiredLong("id")))
+                .containsExactlyElementsOf(expectedIds);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertThat(NdJsonReader.parse(input, pool, true))
+                    .extracting(o -> ((JsonObject) o).requiredLong("id"))
+                    .containsExactlyElementsOf(expectedIds);
+            assertThat(NdJsonReader.parse(input, pool, false))
+                    .extracting(o -> ((JsonObject) o).requiredLong("id"))
+                    .containsExactlyInAnyOrderElementsOf(expectedIds);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReportErrors() {
+        assertThatThrownBy(() -> NdJsonReader.stream("{}\n{\"a\" 1}\n".getBytes()).count())
+                .isInstanceOf(JsonParseException.class)
+                .hasMessage("Expected value for objectkey a");
+    }
+
+    @Test
+    public void shouldRejectLinesWithMoreThanOneValue() {
+        byte[] input = "{\"a\":1}\n{\"a\":1} {\"b\":2}\n".getBytes();
+        assertThatThrownBy(() -> NdJsonReader.stream(input).count())
+                .isInstanceOf(JsonParseException.class)
+                .hasMessage("Unexpected character '{' after value");
+        assertThatThrownBy(() -> NdJsonReader.stream(new ByteArrayInputStream(input)).count())
+                .isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> NdJsonReader.stream("[1,2] x\n".getBytes()).count())
+                .isInstanceOf(JsonParseException.class)
+                .hasMessage("Unexpected character 'x' after value");
+        assertThat(NdJsonReader.stream("[1,2] \t\r\n".getBytes())).hasSize(1);
+    }
+
+    @Test
+    public void shouldWriteLines() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (NdJsonWriter writer = new NdJsonWriter(output)) {
+            writer.write(new JsonObject().put("name", "Darth ⊡"));
+            writer.writeAll(Stream.of(new JsonArray().add(1), new JsonString("line\nbreak")));
+        }
+        String written = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        assertThat(written).isEqualTo("{\"name\":\"Darth ⊡\"}\n[1]\n\"line\\nbreak\"\n");
+        assertThat(NdJsonReader.stream(output.toByteArray())).hasSize(3);
+    }
+
+    private static byte[] lines(int count) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (NdJsonWriter writer = new NdJsonWriter(output)) {
+            for (int i = 0; i < count; i++) {
+                writer.write(new JsonObject().put("id", i).put("message", "Message number " + i));
+            }
+        }
+        return output.toByteArray();
+    }
+}